@@ -0,0 +1,56 @@
+package faithcoderlab.tablebookingservice.domain.auth.repository;
+
+import faithcoderlab.tablebookingservice.domain.user.entity.User;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 계정 레포지토리 인터페이스
+ * 사용자와 파트너 테이블을 함께 조회하여 로그인과 회원가입 중복 확인을 한 번의 쿼리로 처리
+ */
+public interface AccountRepository extends Repository<User, Long> {
+
+    /**
+     * 이메일로 로그인 계정 조회
+     * 같은 이메일이 두 테이블에 모두 있으면 사용자 계정을 우선
+     *
+     * @param email 이메일
+     * @return 로그인 계정 Optional 객체
+     */
+    @Query(value = "SELECT a.id AS id, a.type AS type, a.email AS email, a.password AS password, " +
+            "a.name AS name, a.role AS role FROM (" +
+            "SELECT u.id, 'USER' AS type, u.email, u.password, u.name, u.role FROM users u WHERE u.email = :email " +
+            "UNION ALL " +
+            "SELECT p.id, 'PARTNER' AS type, p.email, p.password, p.name, p.role FROM partners p WHERE p.email = :email" +
+            ") a ORDER BY a.type DESC LIMIT 1",
+            nativeQuery = true)
+    Optional<AccountView> findByEmail(@Param("email") String email);
+
+    /**
+     * 회원가입 정보 중복 여부 조회
+     * 이메일과 전화번호는 사용자 테이블에서, 파트너 회원가입이면 파트너 테이블에서도 확인
+     * 사업자등록번호는 파트너 테이블에서 확인
+     *
+     * @param email           이메일
+     * @param phone           전화번호
+     * @param businessNumber  사업자등록번호 (일반 사용자이면 null)
+     * @param includePartners 파트너 테이블의 이메일과 전화번호도 확인할지 여부
+     * @return 중복 여부
+     */
+    @Query(value = "SELECT " +
+            "(EXISTS(SELECT 1 FROM users WHERE email = :email) " +
+            "OR (:includePartners AND EXISTS(SELECT 1 FROM partners WHERE email = :email))) AS emailTaken, " +
+            "(EXISTS(SELECT 1 FROM users WHERE phone = :phone) " +
+            "OR (:includePartners AND EXISTS(SELECT 1 FROM partners WHERE phone = :phone))) AS phoneTaken, " +
+            "EXISTS(SELECT 1 FROM partners WHERE business_number = :businessNumber) AS businessNumberTaken",
+            nativeQuery = true)
+    SignUpConflictView findSignUpConflicts(
+            @Param("email") String email,
+            @Param("phone") String phone,
+            @Param("businessNumber") String businessNumber,
+            @Param("includePartners") boolean includePartners
+    );
+}
@@ -0,0 +1,23 @@
+package faithcoderlab.tablebookingservice.domain.auth.repository;
+
+/**
+ * 로그인 계정 프로젝션 인터페이스
+ * 사용자와 파트너 테이블에서 로그인에 필요한 컬럼만 조회
+ */
+public interface AccountView {
+
+    Long getId();
+
+    /**
+     * 계정 유형 (USER, PARTNER)
+     */
+    String getType();
+
+    String getEmail();
+
+    String getPassword();
+
+    String getName();
+
+    String getRole();
+}
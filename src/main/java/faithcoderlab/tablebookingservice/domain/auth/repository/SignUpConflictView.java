@@ -0,0 +1,26 @@
+package faithcoderlab.tablebookingservice.domain.auth.repository;
+
+/**
+ * 회원가입 중복 확인 프로젝션 인터페이스
+ * 이메일, 전화번호, 사업자등록번호 사용 여부를 한 번의 조회로 확인
+ */
+public interface SignUpConflictView {
+
+    Number getEmailTaken();
+
+    Number getPhoneTaken();
+
+    Number getBusinessNumberTaken();
+
+    default boolean isEmailTaken() {
+        return getEmailTaken().intValue() > 0;
+    }
+
+    default boolean isPhoneTaken() {
+        return getPhoneTaken().intValue() > 0;
+    }
+
+    default boolean isBusinessNumberTaken() {
+        return getBusinessNumberTaken().intValue() > 0;
+    }
+}
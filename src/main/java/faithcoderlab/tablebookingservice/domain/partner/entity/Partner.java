@@ -16,7 +16,13 @@ import java.time.LocalDateTime;
  * 매장을 관리하는 파트너(점장) 정보를 저장하는 엔티티
  */
 @Entity
-@Table(name = "partners")
+@Table(
+        name = "partners",
+        indexes = {
+                @Index(name = "idx_partners_phone", columnList = "phone"),
+                @Index(name = "idx_partners_business_number", columnList = "business_number")
+        }
+)
 @Data
 @Builder
 @NoArgsConstructor
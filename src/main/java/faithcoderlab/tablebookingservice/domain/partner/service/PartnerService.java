@@ -1,6 +1,8 @@
 package faithcoderlab.tablebookingservice.domain.partner.service;
 
 import faithcoderlab.tablebookingservice.domain.UserRole;
+import faithcoderlab.tablebookingservice.domain.auth.repository.AccountRepository;
+import faithcoderlab.tablebookingservice.domain.auth.repository.SignUpConflictView;
 import faithcoderlab.tablebookingservice.domain.partner.dto.PartnerDto;
 import faithcoderlab.tablebookingservice.domain.partner.entity.Partner;
 import faithcoderlab.tablebookingservice.domain.partner.repository.PartnerRepository;
@@ -22,6 +24,7 @@ public class PartnerService {
 
     private final PartnerRepository partnerRepository;
     private final UserRepository userRepository;
+    private final AccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
 
     /**
@@ -32,15 +35,19 @@ public class PartnerService {
      */
     @Transactional
     public PartnerDto.SignUpResponse signUp(PartnerDto.SignUpRequest request) {
-        if (userRepository.existsByEmail(request.getEmail()) || partnerRepository.existsByEmail(request.getEmail())) {
+        SignUpConflictView conflicts = accountRepository.findSignUpConflicts(
+                request.getEmail(), request.getPhone(), request.getBusinessNumber(), true
+        );
+
+        if (conflicts.isEmailTaken()) {
             throw new CustomException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
 
-        if (userRepository.existsByPhone(request.getPhone()) || partnerRepository.existsByPhone(request.getPhone())) {
+        if (conflicts.isPhoneTaken()) {
             throw new CustomException(ErrorCode.PHONE_ALREADY_EXISTS);
         }
 
-        if (partnerRepository.existsByBusinessNumber(request.getBusinessNumber())) {
+        if (conflicts.isBusinessNumberTaken()) {
             throw new CustomException(ErrorCode.BUSINESS_NUMBER_ALREADY_EXISTS);
         }
 
@@ -1,11 +1,13 @@
 package faithcoderlab.tablebookingservice.domain.reservation.config;
 
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalTime;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -13,50 +15,82 @@ import java.util.List;
  * 예약 관련 설정값을 관리
  */
 @Component
+@RequiredArgsConstructor
 public class ReservationConfig {
 
+    private final Environment environment;
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
-     * 운영 시작 시간 (기본값: 오전 9시)
+     * 예약 가능 기간 (일 단위, 기본값: 14일)
      */
-    @Value("${reservation.operation.start-time:09:00}")
-    private String operationStartTimeStr;
+    @Value("${reservation.available-days-ahead:14}")
+    private int availableDaysAhead;
 
     /**
-     * 운영 종료 시간 (기본값: 오후 10시)
+     * 예약 시간 이후 도착 확인을 허용하는 시간 (분 단위, 기본값: 30분)
+     * 이 시간이 지나도록 도착하지 않은 승인된 예약은 노쇼로 처리
      */
-    @Value("${reservation.operation.end-time:22:00}")
-    private String operationEndTimeStr;
+    @Value("${reservation.arrival.grace-minutes:30}")
+    private int arrivalGraceMinutes;
 
     /**
-     * 예약 간격 (분 단위, 기본값: 30분)
+     * 운영 시간과 예약 간격으로 계산된 슬롯 그리드
+     * 운영 시작 시간 (기본값: 오전 9시), 운영 종료 시간 (기본값: 오후 10시), 예약 간격 (기본값: 30분)
      */
-    @Value("${reservation.interval-minutes:30}")
-    private int intervalMinutes;
+    private volatile ReservationSlotGrid slotGrid;
 
     /**
-     * 예약 가능 기간 (일 단위, 기본값: 14일)
+     * 초기화 메서드
+     * 애플리케이션 시작 시 슬롯 그리드를 한 번만 계산
      */
-    @Value("${reservation.available-days-ahead:14}")
-    private int availableDaysAhead;
+    @PostConstruct
+    public void init() {
+        this.slotGrid = buildSlotGrid();
+    }
 
     /**
-     * 예약 가능한 모든 시간 목록 반환
+     * 슬롯 그리드 갱신 메서드
+     * 현재 환경 설정값으로 슬롯 그리드를 다시 계산하고 갱신 이벤트 발행
      *
-     * @return 모든 예약 가능 시간 목록
+     * @return 갱신된 슬롯 그리드
      */
-    public List<LocalTime> getAllAvailableTimes() {
-        LocalTime startTime = LocalTime.parse(operationStartTimeStr);
-        LocalTime endTime = LocalTime.parse(operationEndTimeStr);
+    public ReservationSlotGrid refreshSlotGrid() {
+        ReservationSlotGrid refreshedGrid = buildSlotGrid();
+        this.slotGrid = refreshedGrid;
+        eventPublisher.publishEvent(new ReservationSlotGridRefreshedEvent(refreshedGrid));
+        return refreshedGrid;
+    }
 
-        List<LocalTime> timeSlots = new ArrayList<>();
-        LocalTime currentTime = startTime;
+    /**
+     * 환경 설정값으로 슬롯 그리드 생성
+     *
+     * @return 슬롯 그리드
+     */
+    private ReservationSlotGrid buildSlotGrid() {
+        return ReservationSlotGrid.of(
+                LocalTime.parse(environment.getProperty("reservation.operation.start-time", "09:00")),
+                LocalTime.parse(environment.getProperty("reservation.operation.end-time", "22:00")),
+                environment.getProperty("reservation.interval-minutes", Integer.class, 30)
+        );
+    }
 
-        while (currentTime.isBefore(endTime)) {
-            timeSlots.add(currentTime);
-            currentTime = currentTime.plus(intervalMinutes, ChronoUnit.MINUTES);
-        }
+    /**
+     * 슬롯 그리드 조회
+     *
+     * @return 현재 슬롯 그리드
+     */
+    public ReservationSlotGrid getSlotGrid() {
+        return slotGrid;
+    }
 
-        return timeSlots;
+    /**
+     * 예약 가능한 모든 시간 목록 반환
+     *
+     * @return 모든 예약 가능 시간 목록 (불변 목록)
+     */
+    public List<LocalTime> getAllAvailableTimes() {
+        return slotGrid.getTimes();
     }
 
     /**
@@ -65,7 +99,7 @@ public class ReservationConfig {
      * @return 운영 시작 시간
      */
     public LocalTime getOperationStartTime() {
-        return LocalTime.parse(operationStartTimeStr);
+        return slotGrid.getStartTime();
     }
 
     /**
@@ -74,7 +108,7 @@ public class ReservationConfig {
      * @return 운영 종료 시간
      */
     public LocalTime getOperationEndTime() {
-        return LocalTime.parse(operationEndTimeStr);
+        return slotGrid.getEndTime();
     }
 
     /**
@@ -83,7 +117,7 @@ public class ReservationConfig {
      * @return 예약 간격(분)
      */
     public int getIntervalMinutes() {
-        return intervalMinutes;
+        return slotGrid.getIntervalMinutes();
     }
 
     /**
@@ -94,4 +128,13 @@ public class ReservationConfig {
     public int getAvailableDaysAhead() {
         return availableDaysAhead;
     }
+
+    /**
+     * 도착 확인 허용 시간(분) 조회
+     *
+     * @return 예약 시간 이후 도착 확인 허용 시간(분)
+     */
+    public int getArrivalGraceMinutes() {
+        return arrivalGraceMinutes;
+    }
 }
@@ -0,0 +1,143 @@
+package faithcoderlab.tablebookingservice.domain.reservation.config;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 예약 슬롯 그리드 클래스
+ * 운영 시간과 예약 간격으로 계산된 불변 슬롯 목록
+ * 각 슬롯은 0부터 시작하는 순번(ordinal)으로 식별되며, 시간 비교는 정수 연산으로 처리
+ */
+public final class ReservationSlotGrid {
+
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final int intervalMinutes;
+
+    private final int startSecond;
+    private final int endSecond;
+    private final int intervalSeconds;
+
+    private final List<LocalTime> times;
+
+    private ReservationSlotGrid(LocalTime startTime, LocalTime endTime, int intervalMinutes) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.intervalMinutes = intervalMinutes;
+        this.startSecond = startTime.toSecondOfDay();
+        this.endSecond = endTime.toSecondOfDay();
+        this.intervalSeconds = intervalMinutes * 60;
+
+        List<LocalTime> slots = new ArrayList<>();
+        for (int second = startSecond; second < endSecond; second += intervalSeconds) {
+            slots.add(LocalTime.ofSecondOfDay(second));
+        }
+        this.times = Collections.unmodifiableList(slots);
+    }
+
+    /**
+     * 슬롯 그리드 생성
+     *
+     * @param startTime       운영 시작 시간
+     * @param endTime         운영 종료 시간
+     * @param intervalMinutes 예약 간격(분)
+     * @return 슬롯 그리드
+     */
+    public static ReservationSlotGrid of(LocalTime startTime, LocalTime endTime, int intervalMinutes) {
+        if (intervalMinutes <= 0) {
+            throw new IllegalArgumentException("Reservation interval must be positive: " + intervalMinutes);
+        }
+        if (!startTime.isBefore(endTime)) {
+            throw new IllegalArgumentException(
+                    String.format("Operation start time %s must be before end time %s", startTime, endTime));
+        }
+        return new ReservationSlotGrid(startTime, endTime, intervalMinutes);
+    }
+
+    /**
+     * 예약 시간을 슬롯 순번으로 변환
+     *
+     * @param time 예약 시간
+     * @return 슬롯 순번 (그리드에 없는 시간이면 -1)
+     */
+    public int ordinalOf(LocalTime time) {
+        if (time.getNano() != 0) {
+            return -1;
+        }
+
+        int offset = time.toSecondOfDay() - startSecond;
+        if (offset < 0 || offset % intervalSeconds != 0) {
+            return -1;
+        }
+
+        int ordinal = offset / intervalSeconds;
+        return ordinal < times.size() ? ordinal : -1;
+    }
+
+    /**
+     * 주어진 시간 이후(초과)의 첫 번째 슬롯 순번 조회
+     *
+     * @param time 기준 시간
+     * @return 첫 번째 슬롯 순번 (해당 슬롯이 없으면 {@link #size()})
+     */
+    public int firstOrdinalAfter(LocalTime time) {
+        int offset = time.toSecondOfDay() - startSecond;
+        if (offset < 0) {
+            return 0;
+        }
+        return Math.min(offset / intervalSeconds + 1, times.size());
+    }
+
+    /**
+     * 운영 시간 내의 시간인지 확인 (시작 시간 이상, 종료 시간 미만)
+     *
+     * @param time 확인할 시간
+     * @return 운영 시간 내 여부
+     */
+    public boolean isWithinOperation(LocalTime time) {
+        int second = time.toSecondOfDay();
+        return second >= startSecond && second < endSecond;
+    }
+
+    /**
+     * 슬롯 순번에 해당하는 시간 조회
+     *
+     * @param ordinal 슬롯 순번
+     * @return 슬롯 시간
+     */
+    public LocalTime timeAt(int ordinal) {
+        return times.get(ordinal);
+    }
+
+    /**
+     * 슬롯 개수 조회
+     *
+     * @return 슬롯 개수
+     */
+    public int size() {
+        return times.size();
+    }
+
+    /**
+     * 전체 슬롯 시간 목록 조회 (불변 목록)
+     *
+     * @return 슬롯 시간 목록
+     */
+    public List<LocalTime> getTimes() {
+        return times;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public int getIntervalMinutes() {
+        return intervalMinutes;
+    }
+}
@@ -0,0 +1,10 @@
+package faithcoderlab.tablebookingservice.domain.reservation.config;
+
+/**
+ * 예약 슬롯 그리드 갱신 이벤트
+ * 운영 시간 또는 예약 간격이 변경되어 슬롯 순번이 달라졌음을 알림
+ *
+ * @param slotGrid 갱신된 슬롯 그리드
+ */
+public record ReservationSlotGridRefreshedEvent(ReservationSlotGrid slotGrid) {
+}
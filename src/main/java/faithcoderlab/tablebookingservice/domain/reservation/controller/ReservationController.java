@@ -2,9 +2,9 @@ package faithcoderlab.tablebookingservice.domain.reservation.controller;
 
 import faithcoderlab.tablebookingservice.domain.reservation.dto.ReservationApprovalDto;
 import faithcoderlab.tablebookingservice.domain.reservation.dto.ReservationDto;
+import faithcoderlab.tablebookingservice.domain.reservation.service.ReservationExportService;
+import faithcoderlab.tablebookingservice.domain.reservation.service.ReservationIdempotencyStore;
 import faithcoderlab.tablebookingservice.domain.reservation.service.ReservationService;
-import faithcoderlab.tablebookingservice.domain.store.entity.Store;
-import faithcoderlab.tablebookingservice.domain.store.repository.StoreRepository;
 import faithcoderlab.tablebookingservice.global.common.ApiResponse;
 import faithcoderlab.tablebookingservice.global.exception.CustomException;
 import faithcoderlab.tablebookingservice.global.exception.ErrorCode;
@@ -12,15 +12,15 @@ import faithcoderlab.tablebookingservice.global.security.AuthenticationUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
-import java.util.Collection;
 import java.util.List;
 
 /**
@@ -34,7 +34,10 @@ public class ReservationController {
 
     private final ReservationService reservationService;
     private final AuthenticationUtil authenticationUtil;
-    private final StoreRepository storeRepository;
+    private final ReservationIdempotencyStore idempotencyStore;
+    private final ReservationExportService reservationExportService;
+
+    private static final int IDEMPOTENCY_KEY_MAX_LENGTH = 255;
 
     /**
      * 예약 가능 시간 조회 API
@@ -55,37 +58,93 @@ public class ReservationController {
     /**
      * 예약 생성 API
      * 사용자가 매장에 예약 요청
+     * Idempotency-Key 헤더가 있으면 같은 키로 재시도된 요청에 처음 생성된 예약 정보를 그대로 반환
+     * 같은 키를 다른 요청 본문에 사용하면 422, 같은 키의 요청이 아직 처리 중이면 409 응답
      *
-     * @param request 예약 생성 요청 정보
+     * @param idempotencyKey 멱등성 키 (선택적)
+     * @param request        예약 생성 요청 정보
      * @return 생성된 예약 정보 응답
      */
     @PostMapping
     public ResponseEntity<ApiResponse<ReservationDto.CreateResponse>> createReservation(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody ReservationDto.CreateRequest request
     ) {
-        String userEmail = authenticationUtil.getCurrentUserEmail();
-
         Long userId = authenticationUtil.getCurrentUserId();
 
-        ReservationDto.CreateResponse response = reservationService.createReservation(userId, request);
+        ReservationDto.CreateResponse response;
+        if (idempotencyKey != null) {
+            if (idempotencyKey.isBlank() || idempotencyKey.length() > IDEMPOTENCY_KEY_MAX_LENGTH) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST, "유효하지 않은 Idempotency-Key입니다.");
+            }
+
+            response = idempotencyStore.execute(
+                    authenticationUtil.getCurrentUserEmail(), idempotencyKey, request,
+                    () -> reservationService.createReservation(userId, request)
+            );
+        } else {
+            response = reservationService.createReservation(userId, request);
+        }
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("예약이 성공적으로 생성되었습니다.", response));
 
     }
 
+    /**
+     * 예약 슬롯 홀드 API
+     * 예약 정보를 입력하는 동안 슬롯을 일정 시간 선점
+     *
+     * @param request 홀드 요청 정보
+     * @return 홀드 정보 응답
+     */
+    @PostMapping("/holds")
+    public ResponseEntity<ApiResponse<ReservationDto.HoldResponse>> holdSlot(
+            @Valid @RequestBody ReservationDto.HoldRequest request
+    ) {
+        Long userId = authenticationUtil.getCurrentUserId();
+
+        ReservationDto.HoldResponse response = reservationService.holdSlot(userId, request);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("예약 슬롯이 홀드되었습니다.", response));
+    }
+
+    /**
+     * 예약 슬롯 홀드 해제 API
+     *
+     * @param holdId 홀드 ID
+     * @return 해제 결과 응답
+     */
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<ApiResponse<Void>> releaseHold(
+            @PathVariable String holdId
+    ) {
+        Long userId = authenticationUtil.getCurrentUserId();
+
+        reservationService.releaseHold(userId, holdId);
+
+        return ResponseEntity.ok(ApiResponse.success("예약 슬롯 홀드가 해제되었습니다.", null));
+    }
+
     /**
      * 사용자별 예약 목록 조회 API
-     * 로그인한 사용자의 예약 목록을 조회
+     * 로그인한 사용자의 예약 목록을 최신순으로 커서 기반 페이지 단위 조회
      *
-     * @return 사용자의 예약 목록 응답
+     * @param status 예약 상태 (선택적)
+     * @param cursor 이전 페이지 응답의 다음 커서 (선택적)
+     * @param size   페이지 크기 (기본값: 20)
+     * @return 사용자의 예약 목록 페이지 응답
      */
     @GetMapping("/user")
-    public ResponseEntity<ApiResponse<List<ReservationDto.ReservationInfoResponse>>> getUserReservations(
-            @RequestParam(required = false) List<String> status
+    public ResponseEntity<ApiResponse<ReservationDto.ReservationPageResponse>> getUserReservations(
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
         Long userId = authenticationUtil.getCurrentUserId();
-        List<ReservationDto.ReservationInfoResponse> reservations = reservationService.getUserReservations(userId, status);
+        ReservationDto.ReservationPageResponse reservations =
+                reservationService.getUserReservations(userId, status, cursor, size);
 
         return ResponseEntity.ok(ApiResponse.success("예약 목록을 성공적으로 조회했습니다.", reservations));
     }
@@ -98,27 +157,68 @@ public class ReservationController {
      * @param storeId   매장 ID (선택적)
      * @param date      예약 날짜 (선택적)
      * @param status    예약 상태 (선택적)
-     * @return 매장 예약 목록 응답
+     * @param cursor    이전 페이지 응답의 다음 커서 (선택적)
+     * @param size      페이지 크기 (기본값: 20)
+     * @return 매장 예약 목록 페이지 응답
      */
     @GetMapping("/partner/{partnerId}")
     @PreAuthorize("hasRole('ROLE_PARTNER')")
-    public ResponseEntity<ApiResponse<List<ReservationDto.ReservationInfoResponse>>> getPartnerReservations(
+    public ResponseEntity<ApiResponse<ReservationDto.ReservationPageResponse>> getPartnerReservations(
             @PathVariable Long partnerId,
             @RequestParam(required = false) Long storeId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDate date,
-            @RequestParam(required = false) List<String> status
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
         authenticationUtil.validatePartnerOwnership(partnerId);
 
-        List<ReservationDto.ReservationInfoResponse> reservations =
-                reservationService.getPartnerReservations(partnerId, storeId, date, status);
+        ReservationDto.ReservationPageResponse reservations =
+                reservationService.getPartnerReservations(partnerId, storeId, date, status, cursor, size);
 
         return ResponseEntity.ok(ApiResponse.success("매장 예약 목록을 성공적으로 조회했습니다.", reservations));
     }
 
+    /**
+     * 파트너별 매장 예약 내보내기 API
+     * 파트너가 소유한 매장들의 기간별 예약 내역을 CSV 또는 NDJSON 파일로 스트리밍
+     *
+     * @param partnerId 파트너 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @param storeId   매장 ID (선택적)
+     * @param status    예약 상태 (선택적)
+     * @param format    내보내기 형식 (csv, ndjson, 기본값: csv)
+     * @return 예약 내역 파일 스트림
+     */
+    @GetMapping("/partner/{partnerId}/export")
+    @PreAuthorize("hasRole('ROLE_PARTNER')")
+    public ResponseEntity<StreamingResponseBody> exportPartnerReservations(
+            @PathVariable Long partnerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long storeId,
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        authenticationUtil.validatePartnerOwnership(partnerId);
+
+        ReservationExportService.Format exportFormat = ReservationExportService.Format.from(format);
+        StreamingResponseBody body = reservationExportService.exportPartnerReservations(
+                partnerId, storeId, startDate, endDate, status, exportFormat
+        );
+
+        String fileName = String.format("reservations-%s-%s.%s", startDate, endDate, exportFormat.getExtension());
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
     /**
      * 예약 상세 정보 조회 API
-     * 특정 예약의 상세 정보를 조회
+     * 특정 예약의 상세 정보를 조회 (예약한 사용자 또는 매장 관리자만 조회 가능)
      *
      * @param reservationId 예약 ID
      * @return 예약 상세 정보 응답
@@ -127,28 +227,9 @@ public class ReservationController {
     public ResponseEntity<ApiResponse<ReservationDto.ReservationInfoResponse>> getReservationDetail(
             @PathVariable Long reservationId
     ) {
-        ReservationDto.ReservationInfoResponse reservation = reservationService.getReservationDetail(reservationId);
-
-        String currentUserEmail = authenticationUtil.getCurrentUserEmail();
-        Long currentUserId = authenticationUtil.getCurrentUserId();
-
-        boolean isReservationOwner = reservation.getUserId().equals(currentUserId);
-        boolean isStorePartner = false;
-
-        Collection<? extends GrantedAuthority> authorities = SecurityContextHolder.getContext()
-                .getAuthentication().getAuthorities();
-        boolean isPartner = authorities.stream()
-                .anyMatch(auth -> auth.getAuthority().equals("ROLE_PARTNER"));
-
-        if (isPartner) {
-            Store store = storeRepository.findById(reservation.getStoreId())
-                    .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
-            isStorePartner = store.getPartner().getEmail().equals(currentUserEmail);
-        }
-
-        if (!isReservationOwner && !isStorePartner) {
-            throw new CustomException(ErrorCode.FORBIDDEN);
-        }
+        ReservationDto.ReservationInfoResponse reservation = reservationService.getReservationDetail(
+                reservationId, authenticationUtil.getCurrentUserId(), authenticationUtil.isCurrentPartner()
+        );
 
         return ResponseEntity.ok(ApiResponse.success("예약 상세 정보를 성공적으로 조회했습니다.", reservation));
     }
@@ -164,13 +245,8 @@ public class ReservationController {
     public ResponseEntity<ApiResponse<ReservationDto.ReservationInfoResponse>> cancelReservation(
             @PathVariable Long reservationId
     ) {
-        String currentUserEmail = authenticationUtil.getCurrentUserEmail();
         Long currentUserId = authenticationUtil.getCurrentUserId();
-
-        Collection<? extends GrantedAuthority> authorities = SecurityContextHolder.getContext()
-                .getAuthentication().getAuthorities();
-        boolean isPartner = authorities.stream()
-                .anyMatch(auth -> auth.getAuthority().equals("ROLE_PARTNER"));
+        boolean isPartner = authenticationUtil.isCurrentPartner();
 
         ReservationDto.ReservationInfoResponse response =
                 reservationService.cancelReservation(reservationId, currentUserId, isPartner);
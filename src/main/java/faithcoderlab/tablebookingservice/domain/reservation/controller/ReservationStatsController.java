@@ -107,6 +107,32 @@ public class ReservationStatsController {
         return ResponseEntity.ok(ApiResponse.success("상태별 예약 통계를 성공적으로 조회했습니다.", response));
     }
 
+    /**
+     * 통합 예약 통계 API
+     * 특정 매장의 날짜 범위 내 기간별, 시간대별, 상태별 통계 정보를 한 번에 제공
+     *
+     * @param storeId   매장 ID
+     * @param partnerId 파트너 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 통합 예약 통계 응답
+     */
+    @GetMapping("/summary/stores/{storeId}/partners/{partnerId}")
+    @PreAuthorize("hasRole('ROLE_PARTNER')")
+    public ResponseEntity<ApiResponse<ReservationStatsDto.SummaryStatsResponse>> getSummaryStats(
+            @PathVariable Long storeId,
+            @PathVariable Long partnerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        validateStoreOwnership(storeId, partnerId);
+
+        ReservationStatsDto.SummaryStatsResponse response =
+                reservationStatsService.getSummaryStats(storeId, startDate, endDate);
+
+        return ResponseEntity.ok(ApiResponse.success("통합 예약 통계를 성공적으로 조회했습니다.", response));
+    }
+
     /**
      * 매장 소유권 검증 메서드
      * 현재 로그인한 파트너가 해장 매당의 소유자인지 확인
@@ -79,6 +79,11 @@ public class ReservationDto {
         private Integer partySize;
 
         private String specialRequests;
+
+        /**
+         * 예약 홀드 ID (선택적, 홀드한 슬롯을 예약으로 전환할 때 사용)
+         */
+        private String holdId;
     }
 
     /**
@@ -102,6 +107,58 @@ public class ReservationDto {
         private LocalDateTime createdAt;
     }
 
+    /**
+     * 예약 슬롯 홀드 요청 DTO
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HoldRequest {
+        @NotNull(message = "매장 ID는 필수 입력 항목입니다.")
+        private Long storeId;
+
+        @NotNull(message = "예약 날짜는 필수 입력 항목입니다.")
+        @FutureOrPresent(message = "예약 날짜는 현재 또는 미래 날짜여야 합니다.")
+        private LocalDate reservationDate;
+
+        @NotNull(message = "예약 시간은 필수 입력 항목입니다.")
+        private LocalTime reservationTime;
+    }
+
+    /**
+     * 예약 슬롯 홀드 응답 DTO
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HoldResponse {
+        private String holdId;
+        private Long storeId;
+        private String storeName;
+        private LocalDate reservationDate;
+        private LocalTime reservationTime;
+        private LocalDateTime expiresAt;
+    }
+
+    /**
+     * 예약 목록 페이지 응답 DTO
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReservationPageResponse {
+        private List<ReservationInfoResponse> reservations;
+
+        /**
+         * 다음 페이지 조회용 커서 (다음 페이지가 없으면 null)
+         */
+        private String nextCursor;
+        private boolean hasNext;
+    }
+
     /**
      * 예약 정보 응답 DTO
      */
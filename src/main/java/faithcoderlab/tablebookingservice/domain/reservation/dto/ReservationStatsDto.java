@@ -82,6 +82,24 @@ public class ReservationStatsDto {
         private double noShowRate;
     }
 
+    /**
+     * 통합 예약 통계 응답 DTO
+     * 기간별, 시간대별, 상태별 통계를 한 번에 제공
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SummaryStatsResponse {
+        private Long storeId;
+        private String storeName;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private PeriodStatsResponse periodStats;
+        private TimeSlotStatsResponse timeSlotStats;
+        private StatusStatsResponse statusStats;
+    }
+
     /**
      * 통계 요청 DTO
      */
@@ -19,7 +19,20 @@ import java.time.LocalTime;
  * 사용자의 매장 예약 정보를 저장하는 엔티티
  */
 @Entity
-@Table(name = "reservations")
+@Table(
+        name = "reservations",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_reservations_active_slot",
+                columnNames = {"store_id", "reservation_date", "reservation_time", "active_slot"}
+        ),
+        indexes = {
+                @Index(name = "idx_reservations_user_date_time", columnList = "user_id, reservation_date, reservation_time"),
+                @Index(name = "idx_reservations_store_date_time", columnList = "store_id, reservation_date, reservation_time"),
+                @Index(name = "idx_reservations_status_date_time",
+                        columnList = "status, reservation_date, reservation_time, store_id"),
+                @Index(name = "idx_reservations_status_arrived_at", columnList = "status, arrived_at")
+        }
+)
 @Data
 @Builder
 @NoArgsConstructor
@@ -65,4 +78,22 @@ public class Reservation {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    /**
+     * 슬롯 점유 여부 (대기 중/승인됨 상태이면 true, 그 외에는 null)
+     * 유니크 제약조건은 null 값을 비교하지 않으므로 점유 중인 예약만 같은 슬롯에 중복될 수 없음
+     */
+    @Column(name = "active_slot")
+    private Boolean activeSlot;
+
+    /**
+     * 저장 전 예약 상태에 따라 슬롯 점유 여부 동기화
+     */
+    @PrePersist
+    @PreUpdate
+    private void syncActiveSlot() {
+        this.activeSlot = status == ReservationStatus.PENDING || status == ReservationStatus.CONFIRMED
+                ? Boolean.TRUE
+                : null;
+    }
 }
@@ -0,0 +1,53 @@
+package faithcoderlab.tablebookingservice.domain.reservation.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 일별 예약 통계 엔티티 클래스
+ * 매장/날짜/시간/상태별 예약 수와 인원 수 합계를 예약 상태 변경 시점에 누적하여 저장
+ * 통계 조회 시 원본 예약 데이터 대신 이 집계 데이터를 사용
+ */
+@Entity
+@Table(
+        name = "reservation_daily_stats",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_reservation_daily_stats",
+                columnNames = {"store_id", "reservation_date", "reservation_time", "status"}
+        )
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(nullable = false)
+    private LocalDate reservationDate;
+
+    @Column(nullable = false)
+    private LocalTime reservationTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReservationStatus status;
+
+    @Column(nullable = false)
+    private Long reservationCount;
+
+    @Column(nullable = false)
+    private Long partySizeSum;
+}
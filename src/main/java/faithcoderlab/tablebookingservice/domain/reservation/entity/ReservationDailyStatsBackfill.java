@@ -0,0 +1,41 @@
+package faithcoderlab.tablebookingservice.domain.reservation.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일별 예약 통계 재계산 진행 상태 엔티티 클래스
+ * 재계산을 한 노드만 실행하도록 실행 권한(리스)을 기록하고,
+ * 중단되더라도 이어서 진행할 수 있도록 마지막으로 처리한 매장 ID를 저장하는 단일 행 테이블
+ */
+@Entity
+@Table(name = "reservation_daily_stats_backfill")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationDailyStatsBackfill {
+
+    /**
+     * 단일 행 ID
+     */
+    public static final Long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long lastStoreId;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    private String leaseOwner;
+
+    private LocalDateTime leaseExpiresAt;
+}
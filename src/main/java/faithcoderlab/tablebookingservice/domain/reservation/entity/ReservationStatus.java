@@ -1,5 +1,11 @@
 package faithcoderlab.tablebookingservice.domain.reservation.entity;
 
+import faithcoderlab.tablebookingservice.global.exception.CustomException;
+import faithcoderlab.tablebookingservice.global.exception.ErrorCode;
+
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * 예약 상태 열거형
  * 예약의 다양한 상태를 정의
@@ -38,5 +44,28 @@ public enum ReservationStatus {
     /**
      * 노쇼 - 고객이 예약 시간에 나타나지 않음
      */
-    NO_SHOW
+    NO_SHOW;
+
+    /**
+     * 문자열 상태 목록을 조회 조건으로 변환 (대소문자 구분 없음, 상태를 지정하지 않으면 전체 상태)
+     *
+     * @param statusList 문자열 상태 목록
+     * @return 조회할 상태 목록
+     * @throws CustomException 유효하지 않은 상태가 포함된 경우
+     */
+    public static List<ReservationStatus> parseAll(List<String> statusList) {
+        if (statusList == null || statusList.isEmpty()) {
+            return Arrays.asList(values());
+        }
+
+        return statusList.stream()
+                .map(status -> {
+                    try {
+                        return valueOf(status.toUpperCase());
+                    } catch (IllegalArgumentException e) {
+                        throw new CustomException(ErrorCode.INVALID_REQUEST, "유효하지 않은 예약 상태: " + status);
+                    }
+                })
+                .toList();
+    }
 }
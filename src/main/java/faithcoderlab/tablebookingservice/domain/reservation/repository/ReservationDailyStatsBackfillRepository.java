@@ -0,0 +1,84 @@
+package faithcoderlab.tablebookingservice.domain.reservation.repository;
+
+import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationDailyStatsBackfill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일별 예약 통계 재계산 진행 상태 레포지토리 인터페이스
+ * 재계산 실행 권한(리스) 획득과 진행 상태 기록
+ */
+public interface ReservationDailyStatsBackfillRepository extends JpaRepository<ReservationDailyStatsBackfill, Long> {
+
+    /**
+     * 진행 상태 행이 없으면 생성 (이미 있으면 무시)
+     *
+     * @param id 단일 행 ID
+     * @return 생성된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO reservation_daily_stats_backfill (id, last_store_id, completed) " +
+            "VALUES (:id, 0, false)",
+            nativeQuery = true)
+    int createIfAbsent(@Param("id") Long id);
+
+    /**
+     * 재계산 실행 권한 획득
+     * 재계산이 끝나지 않았고, 권한이 없거나 만료되었거나 이미 같은 노드가 가진 경우에만 획득
+     *
+     * @param id             단일 행 ID
+     * @param owner          노드 식별자
+     * @param now            현재 시각
+     * @param leaseExpiresAt 권한 만료 시각
+     * @return 획득 여부 (1이면 획득)
+     */
+    @Modifying
+    @Query("UPDATE ReservationDailyStatsBackfill b " +
+            "SET b.leaseOwner = :owner, b.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE b.id = :id AND b.completed = false " +
+            "AND (b.leaseOwner IS NULL OR b.leaseOwner = :owner OR b.leaseExpiresAt < :now)")
+    int claim(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt
+    );
+
+    /**
+     * 처리한 매장 ID를 기록하고 실행 권한 연장
+     * 진행 상태 행을 잠그므로 매장 단위 재계산 트랜잭션의 첫 문장으로 실행
+     *
+     * @param id             단일 행 ID
+     * @param owner          노드 식별자
+     * @param storeId        처리한 매장 ID
+     * @param leaseExpiresAt 권한 만료 시각
+     * @return 변경된 행 수 (0이면 다른 노드에 권한을 빼앗김)
+     */
+    @Modifying
+    @Query("UPDATE ReservationDailyStatsBackfill b " +
+            "SET b.lastStoreId = :storeId, b.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE b.id = :id AND b.leaseOwner = :owner AND b.completed = false")
+    int advance(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("storeId") Long storeId,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt
+    );
+
+    /**
+     * 재계산 완료 처리
+     *
+     * @param id    단일 행 ID
+     * @param owner 노드 식별자
+     * @return 변경된 행 수 (0이면 다른 노드에 권한을 빼앗김)
+     */
+    @Modifying
+    @Query("UPDATE ReservationDailyStatsBackfill b " +
+            "SET b.completed = true, b.leaseOwner = NULL, b.leaseExpiresAt = NULL " +
+            "WHERE b.id = :id AND b.leaseOwner = :owner")
+    int complete(@Param("id") Long id, @Param("owner") String owner);
+}
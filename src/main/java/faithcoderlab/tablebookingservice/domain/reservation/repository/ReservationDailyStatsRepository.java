@@ -0,0 +1,153 @@
+package faithcoderlab.tablebookingservice.domain.reservation.repository;
+
+import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 일별 예약 통계 레포지토리 인터페이스
+ * 일별 예약 통계 데이터 접근 인터페이스
+ */
+public interface ReservationDailyStatsRepository extends JpaRepository<ReservationDailyStats, Long> {
+
+    /**
+     * 매장/날짜/시간/상태별 예약 수와 인원 수 합계 증감
+     * 해당 행이 없으면 생성하고, 있으면 원자적으로 누적
+     *
+     * @param storeId          매장 ID
+     * @param reservationDate  예약 날짜
+     * @param reservationTime  예약 시간
+     * @param status           예약 상태
+     * @param countDelta       예약 수 증감값
+     * @param partySizeDelta   인원 수 증감값
+     */
+    @Modifying
+    @Query(value = "INSERT INTO reservation_daily_stats " +
+            "(store_id, reservation_date, reservation_time, status, reservation_count, party_size_sum) " +
+            "VALUES (:storeId, :reservationDate, :reservationTime, :status, :countDelta, :partySizeDelta) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "reservation_count = reservation_count + :countDelta, " +
+            "party_size_sum = party_size_sum + :partySizeDelta",
+            nativeQuery = true)
+    void upsert(
+            @Param("storeId") Long storeId,
+            @Param("reservationDate") LocalDate reservationDate,
+            @Param("reservationTime") LocalTime reservationTime,
+            @Param("status") String status,
+            @Param("countDelta") long countDelta,
+            @Param("partySizeDelta") long partySizeDelta
+    );
+
+    /**
+     * 매장의 원본 예약 행을 공유 잠금으로 잠금
+     * 매장 단위 재계산 동안 해당 매장의 예약 상태 변경(및 통계 증감)을 대기시키며,
+     * 상태 변경 트랜잭션과 같은 순서(예약 행 → 통계 행)로 잠그므로 교착 상태가 발생하지 않음
+     *
+     * @param storeId 매장 ID
+     * @return 잠근 예약 수
+     */
+    @Query(value = "SELECT COUNT(*) FROM reservations WHERE store_id = :storeId FOR SHARE", nativeQuery = true)
+    long lockReservationsByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * 매장의 일별 예약 통계 행 전체 삭제
+     *
+     * @param storeId 매장 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM reservation_daily_stats WHERE store_id = :storeId", nativeQuery = true)
+    int deleteByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * 원본 예약 데이터로 매장 하나의 일별 예약 통계 재계산
+     * {@link #deleteByStoreId}로 기존 행을 지운 뒤 같은 트랜잭션에서 실행
+     *
+     * @param storeId 매장 ID
+     * @return 생성된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO reservation_daily_stats " +
+            "(store_id, reservation_date, reservation_time, status, reservation_count, party_size_sum) " +
+            "SELECT r.store_id, r.reservation_date, r.reservation_time, r.status, COUNT(*), SUM(r.party_size) " +
+            "FROM reservations r " +
+            "WHERE r.store_id = :storeId " +
+            "GROUP BY r.store_id, r.reservation_date, r.reservation_time, r.status",
+            nativeQuery = true)
+    int backfillStore(@Param("storeId") Long storeId);
+
+    /**
+     * 매장 ID와 날짜 범위로 일별 예약 통계 행 조회
+     *
+     * @param storeId   매장 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 일별 예약 통계 행 목록
+     */
+    List<ReservationDailyStatsView> findByStoreIdAndReservationDateBetween(
+            Long storeId, LocalDate startDate, LocalDate endDate
+    );
+
+    /**
+     * 매장 ID와 날짜 범위로 상태별 예약 수와 인원 수 합계 집계
+     *
+     * @param storeId   매장 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 상태별 예약 집계 목록
+     */
+    @Query("SELECT s.status AS status, SUM(s.reservationCount) AS reservationCount, SUM(s.partySizeSum) AS partySizeSum " +
+            "FROM ReservationDailyStats s " +
+            "WHERE s.storeId = :storeId AND s.reservationDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY s.status " +
+            "HAVING SUM(s.reservationCount) > 0")
+    List<ReservationStatusCountView> sumByStatusForPeriod(
+            @Param("storeId") Long storeId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 매장 ID와 날짜 범위로 날짜별 예약 수 집계
+     *
+     * @param storeId   매장 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 날짜별 예약 집계 목록
+     */
+    @Query("SELECT s.reservationDate AS reservationDate, SUM(s.reservationCount) AS reservationCount " +
+            "FROM ReservationDailyStats s " +
+            "WHERE s.storeId = :storeId AND s.reservationDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY s.reservationDate " +
+            "HAVING SUM(s.reservationCount) > 0")
+    List<ReservationDateCountView> sumByDateForPeriod(
+            @Param("storeId") Long storeId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 매장 ID와 날짜 범위로 시간대별 예약 수 집계
+     *
+     * @param storeId   매장 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 시간대별 예약 집계 목록
+     */
+    @Query("SELECT s.reservationTime AS reservationTime, SUM(s.reservationCount) AS reservationCount " +
+            "FROM ReservationDailyStats s " +
+            "WHERE s.storeId = :storeId AND s.reservationDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY s.reservationTime " +
+            "HAVING SUM(s.reservationCount) > 0")
+    List<ReservationTimeCountView> sumByTimeForPeriod(
+            @Param("storeId") Long storeId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+}
@@ -0,0 +1,23 @@
+package faithcoderlab.tablebookingservice.domain.reservation.repository;
+
+import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 일별 예약 통계 프로젝션 인터페이스
+ * 일별 예약 통계 행에서 집계에 필요한 컬럼만 조회
+ */
+public interface ReservationDailyStatsView {
+
+    LocalDate getReservationDate();
+
+    LocalTime getReservationTime();
+
+    ReservationStatus getStatus();
+
+    Long getReservationCount();
+
+    Long getPartySizeSum();
+}
@@ -0,0 +1,13 @@
+package faithcoderlab.tablebookingservice.domain.reservation.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 예약 집계 프로젝션 인터페이스
+ */
+public interface ReservationDateCountView {
+
+    LocalDate getReservationDate();
+
+    Long getReservationCount();
+}
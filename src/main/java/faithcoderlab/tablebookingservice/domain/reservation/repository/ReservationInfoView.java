@@ -0,0 +1,46 @@
+package faithcoderlab.tablebookingservice.domain.reservation.repository;
+
+import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 예약 정보 프로젝션 인터페이스
+ * 예약 정보 응답에 필요한 예약, 매장, 사용자 컬럼만 한 번의 조인 쿼리로 조회
+ */
+public interface ReservationInfoView {
+
+    Long getReservationId();
+
+    Long getStoreId();
+
+    String getStoreName();
+
+    Long getPartnerId();
+
+    Long getUserId();
+
+    String getUserName();
+
+    String getUserPhone();
+
+    LocalDate getReservationDate();
+
+    LocalTime getReservationTime();
+
+    Integer getPartySize();
+
+    ReservationStatus getStatus();
+
+    LocalDateTime getArrivedAt();
+
+    LocalDateTime getCompletedAt();
+
+    String getSpecialRequests();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -2,11 +2,22 @@ package faithcoderlab.tablebookingservice.domain.reservation.repository;
 
 import faithcoderlab.tablebookingservice.domain.reservation.entity.Reservation;
 import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 예약 레포지토리 인터페이스
@@ -14,6 +25,19 @@ import java.util.List;
  */
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
+    /**
+     * 예약 정보(ReservationInfoView) 조회 쿼리의 공통 SELECT 및 FROM 절
+     * 예약(r), 매장(s), 사용자(u) 별칭을 사용하며 WHERE 절 이후는 각 쿼리에서 이어서 작성
+     */
+    String INFO_VIEW_SELECT = "SELECT r.id AS reservationId, s.id AS storeId, s.name AS storeName, " +
+            "s.partner.id AS partnerId, " +
+            "u.id AS userId, u.name AS userName, u.phone AS userPhone, " +
+            "r.reservationDate AS reservationDate, r.reservationTime AS reservationTime, " +
+            "r.partySize AS partySize, r.status AS status, r.arrivedAt AS arrivedAt, " +
+            "r.completedAt AS completedAt, r.specialRequests AS specialRequests, " +
+            "r.createdAt AS createdAt, r.updatedAt AS updatedAt " +
+            "FROM Reservation r JOIN r.store s JOIN r.user u ";
+
     /**
      * 매장 ID와 예약 날짜로 예약 목록을 조회
      *
@@ -49,66 +73,214 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     );
 
     /**
-     * 사용자 ID와 상태 목록으로 예약 목록 조회
+     * 예약 ID로 예약 정보 조회
      *
-     * @param userId   사용자 ID
-     * @param statuses 예약 상태 목록
-     * @return 예약 목록
-     */
-    List<Reservation> findByUserIdAndStatusInOrderByReservationDateDescReservationTimeDesc(
-            Long userId, List<ReservationStatus> statuses
-    );
-
-    /**
-     * 사용자 ID로 예약 목록 조회 (최신순 정렬)
+     * @param reservationId 예약 ID
+     * @return 예약 정보
      */
-    List<Reservation> findByUserIdOrderByReservationDateDescReservationTimeDesc(Long userId);
+    @Query(INFO_VIEW_SELECT +
+            "WHERE r.id = :reservationId")
+    Optional<ReservationInfoView> findInfoById(@Param("reservationId") Long reservationId);
 
     /**
-     * 매장 ID와 예약 날짜로 예약 목록 조회 (시간순 정렬)
+     * 사용자 예약 목록 키셋 페이지 조회
+     * (예약 날짜, 예약 시간, 예약 ID) 내림차순으로 커서 위치 이후의 예약만 조회
+     *
+     * @param userId   사용자 ID
+     * @param statuses 예약 상태 목록
+     * @param date     커서 예약 날짜
+     * @param time     커서 예약 시간
+     * @param id       커서 예약 ID
+     * @param pageable 조회 개수
+     * @return 예약 정보 목록
      */
-    List<Reservation> findByStoreIdAndReservationDateOrderByReservationTime(
-            Long storeId, LocalDate date);
+    @Query(INFO_VIEW_SELECT +
+            "WHERE u.id = :userId AND r.status IN :statuses " +
+            "AND (r.reservationDate < :date " +
+            "OR (r.reservationDate = :date AND (r.reservationTime < :time " +
+            "OR (r.reservationTime = :time AND r.id < :id)))) " +
+            "ORDER BY r.reservationDate DESC, r.reservationTime DESC, r.id DESC")
+    List<ReservationInfoView> findUserReservationPage(
+            @Param("userId") Long userId,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("date") LocalDate date,
+            @Param("time") LocalTime time,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 
     /**
-     * 매장 ID와 예약 날짜 및 상태 목록으로 예약 목록 조회 (시간순 정렬)
+     * 매장 예약 목록 키셋 페이지 조회
+     * (예약 날짜, 예약 시간, 예약 ID) 내림차순으로 커서 위치 이후의 예약만 조회
+     * idx_reservations_store_date_time 인덱스 순서대로 읽으므로 정렬 없이 조회 개수만큼만 읽음
+     *
+     * @param storeId    매장 ID
+     * @param statuses   예약 상태 목록
+     * @param cursorDate 커서 예약 날짜
+     * @param cursorTime 커서 예약 시간
+     * @param cursorId   커서 예약 ID
+     * @param pageable   조회 개수
+     * @return 예약 정보 목록
      */
-    List<Reservation> findByStoreIdAndReservationDateAndStatusInOrderByReservationTime(
-            Long storeId, LocalDate date, List<ReservationStatus> statuses);
+    @Query(INFO_VIEW_SELECT +
+            "WHERE r.store.id = :storeId " +
+            "AND r.status IN :statuses " +
+            "AND (r.reservationDate < :cursorDate " +
+            "OR (r.reservationDate = :cursorDate AND (r.reservationTime < :cursorTime " +
+            "OR (r.reservationTime = :cursorTime AND r.id < :cursorId)))) " +
+            "ORDER BY r.reservationDate DESC, r.reservationTime DESC, r.id DESC")
+    List<ReservationInfoView> findStoreReservationPage(
+            @Param("storeId") Long storeId,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorTime") LocalTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 
     /**
-     * 매장 ID로 예약 목록 조회 (최신순 정렬)
+     * 매장의 하루 예약 목록 키셋 페이지 조회
+     * 하루 영업 흐름대로 보도록 (예약 시간, 예약 ID) 오름차순으로 커서 위치 이후의 예약만 조회
+     * idx_reservations_store_date_time 인덱스 순서대로 읽으므로 정렬 없이 조회 개수만큼만 읽음
+     *
+     * @param storeId    매장 ID
+     * @param date       예약 날짜
+     * @param statuses   예약 상태 목록
+     * @param cursorTime 커서 예약 시간
+     * @param cursorId   커서 예약 ID
+     * @param pageable   조회 개수
+     * @return 예약 정보 목록
      */
-    List<Reservation> findByStoreIdOrderByReservationDateDescReservationTimeDesc(Long storeId);
+    @Query(INFO_VIEW_SELECT +
+            "WHERE r.store.id = :storeId " +
+            "AND r.reservationDate = :date " +
+            "AND r.status IN :statuses " +
+            "AND (r.reservationTime > :cursorTime " +
+            "OR (r.reservationTime = :cursorTime AND r.id > :cursorId)) " +
+            "ORDER BY r.reservationTime, r.id")
+    List<ReservationInfoView> findStoreDayReservationPage(
+            @Param("storeId") Long storeId,
+            @Param("date") LocalDate date,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("cursorTime") LocalTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 
     /**
-     * 매장 ID와 상태 목록으로 예약 목록 조회 (최신순 정렬)
+     * 파트너 매장 예약 내보내기용 스트림 조회
+     * MySQL 드라이버가 결과를 한 번에 메모리에 올리지 않고 행 단위로 전달하도록 fetch size를 Integer.MIN_VALUE로 지정
+     * 스트림은 트랜잭션 안에서 소비한 뒤 닫아야 함
+     *
+     * @param partnerId 파트너 ID
+     * @param storeId   매장 ID (null이면 파트너의 전체 매장)
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @param statuses  예약 상태 목록
+     * @return 예약 정보 스트림 (예약 날짜, 예약 시간, 예약 ID 오름차순)
      */
-    List<Reservation> findByStoreIdAndStatusInOrderByReservationDateDescReservationTimeDesc(
-            Long storeId, List<ReservationStatus> statuses);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(INFO_VIEW_SELECT +
+            "WHERE s.partner.id = :partnerId " +
+            "AND (:storeId IS NULL OR s.id = :storeId) " +
+            "AND r.reservationDate BETWEEN :startDate AND :endDate " +
+            "AND r.status IN :statuses " +
+            "ORDER BY r.reservationDate, r.reservationTime, r.id")
+    Stream<ReservationInfoView> streamPartnerReservations(
+            @Param("partnerId") Long partnerId,
+            @Param("storeId") Long storeId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("statuses") Collection<ReservationStatus> statuses
+    );
 
     /**
-     * 매장 ID 목록과 예약 날짜로 예약 목록 조회 (매장순, 시간순 정렬)
+     * 기준 시각 이전의 승인된 예약이 있는 매장 ID 목록 조회
+     *
+     * @param cutoffDate 기준 날짜
+     * @param cutoffTime 기준 시간
+     * @return 매장 ID 목록
      */
-    List<Reservation> findByStoreIdInAndReservationDateOrderByStoreIdAscReservationTime(
-            List<Long> storeIds, LocalDate date);
+    @Query(value = "SELECT DISTINCT r.store_id FROM reservations r " +
+            "WHERE r.status = 'CONFIRMED' " +
+            "AND (r.reservation_date < :cutoffDate " +
+            "OR (r.reservation_date = :cutoffDate AND r.reservation_time <= :cutoffTime))",
+            nativeQuery = true)
+    List<Long> findStoreIdsWithOverdueConfirmed(
+            @Param("cutoffDate") LocalDate cutoffDate,
+            @Param("cutoffTime") LocalTime cutoffTime
+    );
 
     /**
-     * 매장 ID 목록과 예약 날짜 및 상태 목록으로 예약 목록 조회 (매장순, 시간순 정렬)
+     * 매장의 기준 시각 이전 승인된 예약을 잠그고 조회
+     * 다른 노드가 잠근 행은 건너뛰므로 여러 노드에서 동시에 실행해도 같은 예약을 중복 처리하지 않음
+     *
+     * @param storeId    매장 ID
+     * @param cutoffDate 기준 날짜
+     * @param cutoffTime 기준 시간
+     * @param limit      최대 조회 개수
+     * @return 예약 목록
      */
-    List<Reservation> findByStoreIdInAndReservationDateAndStatusInOrderByStoreIdAscReservationTime(
-            List<Long> storeIds, LocalDate date, List<ReservationStatus> statuses);
+    @Query(value = "SELECT r.id AS id, r.store_id AS storeId, r.reservation_date AS reservationDate, " +
+            "r.reservation_time AS reservationTime, r.party_size AS partySize " +
+            "FROM reservations r " +
+            "WHERE r.store_id = :storeId AND r.status = 'CONFIRMED' " +
+            "AND (r.reservation_date < :cutoffDate " +
+            "OR (r.reservation_date = :cutoffDate AND r.reservation_time <= :cutoffTime)) " +
+            "ORDER BY r.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<ReservationSweepView> lockOverdueConfirmed(
+            @Param("storeId") Long storeId,
+            @Param("cutoffDate") LocalDate cutoffDate,
+            @Param("cutoffTime") LocalTime cutoffTime,
+            @Param("limit") int limit
+    );
 
     /**
-     * 매장 ID 목록으로 예약 목록 조회 (최신순 정렬)
+     * 도착 시각이 기준 시각 이전인 도착 완료 예약을 잠그고 조회
+     * 다른 노드가 잠근 행은 건너뛰므로 여러 노드에서 동시에 실행해도 같은 예약을 중복 처리하지 않음
+     *
+     * @param arrivedBefore 도착 시각 기준
+     * @param limit         최대 조회 개수
+     * @return 예약 목록
      */
-    List<Reservation> findByStoreIdInOrderByReservationDateDescReservationTimeDesc(List<Long> storeIds);
+    @Query(value = "SELECT r.id AS id, r.store_id AS storeId, r.reservation_date AS reservationDate, " +
+            "r.reservation_time AS reservationTime, r.party_size AS partySize " +
+            "FROM reservations r " +
+            "WHERE r.status = 'ARRIVED' AND r.arrived_at < :arrivedBefore " +
+            "ORDER BY r.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<ReservationSweepView> lockArrivedBefore(
+            @Param("arrivedBefore") LocalDateTime arrivedBefore,
+            @Param("limit") int limit
+    );
 
     /**
-     * 매장 ID 목록과 상태 목록으로 예약 목록 조회 (최신순 정렬)
+     * 예약 상태 일괄 변경
+     * 엔티티 콜백을 거치지 않으므로 슬롯 점유 여부와 수정 시각을 함께 갱신
+     * 변경 후 상태는 슬롯을 점유하지 않는 상태(노쇼, 완료 등)여야 함
+     *
+     * @param ids         예약 ID 목록
+     * @param fromStatus  변경 전 상태 (이 상태인 예약만 변경)
+     * @param toStatus    변경 후 상태
+     * @param updatedAt   수정 시각
+     * @param completedAt 완료 시각 (null이면 기존 값 유지)
+     * @return 변경된 예약 수
      */
-    List<Reservation> findByStoreIdInAndStatusInOrderByReservationDateDescReservationTimeDesc(
-            List<Long> storeIds, List<ReservationStatus> statuses);
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = :toStatus, r.activeSlot = NULL, r.updatedAt = :updatedAt, " +
+            "r.completedAt = COALESCE(:completedAt, r.completedAt) " +
+            "WHERE r.id IN :ids AND r.status = :fromStatus")
+    int bulkUpdateStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("fromStatus") ReservationStatus fromStatus,
+            @Param("toStatus") ReservationStatus toStatus,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("completedAt") LocalDateTime completedAt
+    );
 
     /**
      * 매장 ID와 날짜 범위로 예약 목록 조회
@@ -142,4 +314,96 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      * @return 예약 수
      */
     long countByStoreId(Long storeId);
+
+    /**
+     * 날짜 범위와 상태 목록으로 예약 슬롯 조회
+     * 예약 가능 시간 인덱스 재구성 시 엔티티를 로딩하지 않고 필요한 컬럼만 조회
+     *
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @param statuses  예약 상태 목록
+     * @return 예약 슬롯 목록
+     */
+    @Query("SELECT r.store.id AS storeId, r.reservationDate AS reservationDate, r.reservationTime AS reservationTime " +
+            "FROM Reservation r " +
+            "WHERE r.reservationDate BETWEEN :startDate AND :endDate AND r.status IN :statuses")
+    List<ReservationSlotView> findSlotsByReservationDateBetweenAndStatusIn(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("statuses") Collection<ReservationStatus> statuses
+    );
+
+    /**
+     * 매장 ID와 날짜 범위로 상태별 예약 수와 인원 수 합계 집계
+     *
+     * @param storeId   매장 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 상태별 예약 집계 목록
+     */
+    @Query("SELECT r.status AS status, COUNT(r) AS reservationCount, SUM(r.partySize) AS partySizeSum " +
+            "FROM Reservation r " +
+            "WHERE r.store.id = :storeId AND r.reservationDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.status")
+    List<ReservationStatusCountView> countByStatusForPeriod(
+            @Param("storeId") Long storeId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 매장 ID와 날짜 범위로 날짜별 예약 수 집계
+     *
+     * @param storeId   매장 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 날짜별 예약 집계 목록
+     */
+    @Query("SELECT r.reservationDate AS reservationDate, COUNT(r) AS reservationCount " +
+            "FROM Reservation r " +
+            "WHERE r.store.id = :storeId AND r.reservationDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.reservationDate")
+    List<ReservationDateCountView> countByDateForPeriod(
+            @Param("storeId") Long storeId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 매장 ID와 날짜 범위로 시간대별 예약 수 집계
+     *
+     * @param storeId   매장 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 시간대별 예약 집계 목록
+     */
+    @Query("SELECT r.reservationTime AS reservationTime, COUNT(r) AS reservationCount " +
+            "FROM Reservation r " +
+            "WHERE r.store.id = :storeId AND r.reservationDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.reservationTime")
+    List<ReservationTimeCountView> countByTimeForPeriod(
+            @Param("storeId") Long storeId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 매장 ID와 날짜 범위로 날짜/시간/상태별 예약 수와 인원 수 합계 집계
+     * 일별 예약 통계 행과 같은 단위로 집계
+     *
+     * @param storeId   매장 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 날짜/시간/상태별 예약 집계 목록
+     */
+    @Query("SELECT r.reservationDate AS reservationDate, r.reservationTime AS reservationTime, r.status AS status, " +
+            "COUNT(r) AS reservationCount, SUM(r.partySize) AS partySizeSum " +
+            "FROM Reservation r " +
+            "WHERE r.store.id = :storeId AND r.reservationDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.reservationDate, r.reservationTime, r.status")
+    List<ReservationDailyStatsView> countBySlotAndStatusForPeriod(
+            @Param("storeId") Long storeId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
 }
@@ -0,0 +1,17 @@
+package faithcoderlab.tablebookingservice.domain.reservation.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 예약 슬롯 프로젝션 인터페이스
+ * 예약 엔티티 전체 대신 매장 ID, 예약 날짜, 예약 시간만 조회
+ */
+public interface ReservationSlotView {
+
+    Long getStoreId();
+
+    LocalDate getReservationDate();
+
+    LocalTime getReservationTime();
+}
@@ -0,0 +1,16 @@
+package faithcoderlab.tablebookingservice.domain.reservation.repository;
+
+import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
+
+/**
+ * 상태별 예약 집계 프로젝션 인터페이스
+ * 예약 상태별 예약 수와 인원 수 합계
+ */
+public interface ReservationStatusCountView {
+
+    ReservationStatus getStatus();
+
+    Long getReservationCount();
+
+    Long getPartySizeSum();
+}
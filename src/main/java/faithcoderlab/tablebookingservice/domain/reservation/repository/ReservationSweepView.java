@@ -0,0 +1,21 @@
+package faithcoderlab.tablebookingservice.domain.reservation.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 예약 일괄 상태 변경 대상 프로젝션 인터페이스
+ * 상태 변경과 일별 통계 반영에 필요한 컬럼만 조회
+ */
+public interface ReservationSweepView {
+
+    Long getId();
+
+    Long getStoreId();
+
+    LocalDate getReservationDate();
+
+    LocalTime getReservationTime();
+
+    Integer getPartySize();
+}
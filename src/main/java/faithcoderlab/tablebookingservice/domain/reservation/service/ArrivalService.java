@@ -1,5 +1,6 @@
 package faithcoderlab.tablebookingservice.domain.reservation.service;
 
+import faithcoderlab.tablebookingservice.domain.reservation.config.ReservationConfig;
 import faithcoderlab.tablebookingservice.domain.reservation.dto.ArrivalDto;
 import faithcoderlab.tablebookingservice.domain.reservation.entity.Reservation;
 import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
@@ -23,6 +24,9 @@ import java.time.temporal.ChronoUnit;
 public class ArrivalService {
 
     private final ReservationRepository reservationRepository;
+    private final ReservationAvailabilityIndex availabilityIndex;
+    private final ReservationDailyStatsRecorder dailyStatsRecorder;
+    private final ReservationConfig reservationConfig;
 
     private static final int ARRIVAL_WINDOW_MINUTES = 10;
 
@@ -45,6 +49,8 @@ public class ArrivalService {
         reservation.setStatus(ReservationStatus.ARRIVED);
 
         Reservation updatedReservation = reservationRepository.save(reservation);
+        availabilityIndex.onStatusChanged(updatedReservation, ReservationStatus.CONFIRMED, ReservationStatus.ARRIVED);
+        dailyStatsRecorder.onStatusChanged(updatedReservation, ReservationStatus.CONFIRMED, ReservationStatus.ARRIVED);
 
         return ArrivalDto.ArrivalResponse.builder()
                 .reservationId(updatedReservation.getId())
@@ -86,7 +92,7 @@ public class ArrivalService {
 
         LocalTime arrivalWindowStart = reservationTime.minus(ARRIVAL_WINDOW_MINUTES, ChronoUnit.MINUTES);
 
-        LocalTime arrivalWindowEnd = reservationTime.plus(30, ChronoUnit.MINUTES);
+        LocalTime arrivalWindowEnd = reservationTime.plus(reservationConfig.getArrivalGraceMinutes(), ChronoUnit.MINUTES);
 
         if (now.isBefore(arrivalWindowStart)) {
             throw new CustomException(
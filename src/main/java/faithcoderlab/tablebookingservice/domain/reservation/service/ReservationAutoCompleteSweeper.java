@@ -0,0 +1,129 @@
+package faithcoderlab.tablebookingservice.domain.reservation.service;
+
+import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationRepository;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationSweepView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예약 자동 완료 스케줄러 클래스
+ * 도착 후 일정 시간이 지나도록 완료 처리되지 않은 예약을 완료 상태로 일괄 변경
+ * 짧은 트랜잭션 단위로 잘라서 배치마다 UPDATE 한 번으로 갱신하므로 대량의 예약이 밀려 있어도 테이블을 오래 잠그지 않음
+ */
+@Slf4j
+@Component
+public class ReservationAutoCompleteSweeper {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationDailyStatsRecorder dailyStatsRecorder;
+    private final TransactionTemplate transactionTemplate;
+    private final long completeAfterHours;
+    private final int batchSize;
+
+    private final Counter completedCounter;
+
+    public ReservationAutoCompleteSweeper(
+            ReservationRepository reservationRepository,
+            ReservationDailyStatsRecorder dailyStatsRecorder,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.auto-complete.after-hours:6}") long completeAfterHours,
+            @Value("${reservation.auto-complete.batch-size:1000}") int batchSize
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.dailyStatsRecorder = dailyStatsRecorder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.completeAfterHours = completeAfterHours;
+        this.batchSize = batchSize;
+
+        this.completedCounter = Counter.builder("reservation.auto_complete.transitioned")
+                .description("Reservations moved from ARRIVED to COMPLETED by the sweeper")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 자동 완료 처리 (기본 5분마다 실행)
+     * 도착 시각이 기준 시간 이전인 도착 완료 예약을 완료 상태로 변경
+     */
+    @Scheduled(fixedDelayString = "${reservation.auto-complete.sweep-interval-ms:300000}")
+    public void sweep() {
+        long startedAt = System.nanoTime();
+        LocalDateTime arrivedBefore = LocalDateTime.now().minusHours(completeAfterHours);
+
+        int total = 0;
+        BatchResult result;
+        do {
+            result = transactionTemplate.execute(status -> completeBatch(arrivedBefore));
+            completedCounter.increment(result.updated());
+            total += result.updated();
+        } while (result.locked() == batchSize);
+
+        if (total > 0) {
+            log.info("Auto-complete sweep completed {} reservations in {} ms",
+                    total, (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+
+    /**
+     * 자동 완료 대상 예약 한 배치를 잠그고 일괄 변경
+     * 일별 통계도 같은 트랜잭션에서 함께 반영
+     *
+     * @param arrivedBefore 도착 시각 기준
+     * @return 배치 처리 결과
+     */
+    private BatchResult completeBatch(LocalDateTime arrivedBefore) {
+        List<ReservationSweepView> batch = reservationRepository.lockArrivedBefore(arrivedBefore, batchSize);
+        if (batch.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = reservationRepository.bulkUpdateStatus(
+                batch.stream().map(ReservationSweepView::getId).toList(),
+                ReservationStatus.ARRIVED, ReservationStatus.COMPLETED, now, now
+        );
+
+        Map<SlotKey, long[]> totals = new HashMap<>();
+        for (ReservationSweepView reservation : batch) {
+            long[] slotTotals = totals.computeIfAbsent(
+                    new SlotKey(reservation.getStoreId(), reservation.getReservationDate(), reservation.getReservationTime()),
+                    key -> new long[2]
+            );
+            slotTotals[0]++;
+            slotTotals[1] += reservation.getPartySize();
+        }
+
+        totals.forEach((slot, slotTotals) -> dailyStatsRecorder.onBulkStatusChanged(
+                slot.storeId(), slot.date(), slot.time(),
+                ReservationStatus.ARRIVED, ReservationStatus.COMPLETED, slotTotals[0], slotTotals[1]
+        ));
+
+        return new BatchResult(batch.size(), updated);
+    }
+
+    /**
+     * 배치 처리 결과 (잠근 예약 수, 변경된 예약 수)
+     */
+    private record BatchResult(int locked, int updated) {
+    }
+
+    /**
+     * 매장, 예약 날짜, 예약 시간으로 구성된 슬롯 키
+     */
+    private record SlotKey(long storeId, LocalDate date, LocalTime time) {
+    }
+}
@@ -0,0 +1,375 @@
+package faithcoderlab.tablebookingservice.domain.reservation.service;
+
+import faithcoderlab.tablebookingservice.domain.reservation.config.ReservationConfig;
+import faithcoderlab.tablebookingservice.domain.reservation.config.ReservationSlotGrid;
+import faithcoderlab.tablebookingservice.domain.reservation.config.ReservationSlotGridRefreshedEvent;
+import faithcoderlab.tablebookingservice.domain.reservation.entity.Reservation;
+import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationRepository;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationSlotView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 예약 가능 시간 인덱스 클래스
+ * 매장/날짜별로 예약된 시간 슬롯을 비트셋으로 메모리에 유지하여
+ * 예약 가능 시간 조회 시 데이터베이스 조회 없이 응답
+ * 인덱스는 노드별로 유지되는 참고용 정보이며, 다른 노드의 상태 변경은 재구성 전까지 반영되지 않음
+ * 중복 예약 방지는 reservations 테이블의 유니크 제약조건(uk_reservations_active_slot)이 최종적으로 보장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationAvailabilityIndex {
+
+    /**
+     * 슬롯을 점유하는 예약 상태 (대기 중, 승인됨)
+     */
+    private static final Set<ReservationStatus> OCCUPYING_STATUSES =
+            EnumSet.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationConfig reservationConfig;
+
+    private final Map<StoreDateKey, BitSet> bookedSlots = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 재구성 잠금
+     * 데이터베이스 조회를 하는 동안 가상 스레드가 캐리어 스레드를 고정하지 않도록 synchronized 대신 사용
+     */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * 인덱스 구성에 사용된 슬롯 그리드 (비트 인덱스 = 슬롯 순번)
+     */
+    private volatile ReservationSlotGrid indexedGrid;
+
+    /**
+     * 데이터베이스에 아직 반영되지 않은 슬롯 선점 제공자 목록 (예: 예약 홀드)
+     */
+    private final List<Supplier<List<ReservationSlotView>>> claimSources = new CopyOnWriteArrayList<>();
+
+    /**
+     * 애플리케이션 시작 또는 슬롯 그리드 갱신 시 데이터베이스로부터 인덱스 재구성
+     */
+    @EventListener({ApplicationReadyEvent.class, ReservationSlotGridRefreshedEvent.class})
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            ready = false;
+            bookedSlots.clear();
+            indexedGrid = reservationConfig.getSlotGrid();
+
+            LocalDate today = LocalDate.now();
+            List<ReservationSlotView> slots = reservationRepository.findSlotsByReservationDateBetweenAndStatusIn(
+                    today,
+                    today.plusDays(reservationConfig.getAvailableDaysAhead()),
+                    OCCUPYING_STATUSES
+            );
+
+            for (ReservationSlotView slot : slots) {
+                occupy(slot.getStoreId(), slot.getReservationDate(), slot.getReservationTime());
+            }
+            occupyClaims();
+
+            ready = true;
+            // 재구성 중에는 선점 확인 없이 홀드가 등록되므로 준비 완료 후 한 번 더 반영
+            occupyClaims();
+            log.info("Reservation availability index rebuilt: {} booked slots across {} store-days",
+                    slots.size(), bookedSlots.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 선점 제공자 등록
+     * 인덱스 재구성 시 데이터베이스의 예약과 함께 제공자가 보유한 슬롯도 다시 점유 처리
+     *
+     * @param claimSource 선점 중인 슬롯 목록 제공자
+     */
+    public void registerClaimSource(Supplier<List<ReservationSlotView>> claimSource) {
+        claimSources.add(claimSource);
+    }
+
+    /**
+     * 지난 날짜의 비트셋 제거 (매일 자정 이후 실행)
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    public void evictPastDates() {
+        LocalDate today = LocalDate.now();
+        bookedSlots.keySet().removeIf(key -> key.date().isBefore(today));
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 확인
+     *
+     * @return 인덱스가 현재 슬롯 그리드 기준으로 구성되어 있으면 true
+     */
+    public boolean isReady() {
+        return ready && indexedGrid == reservationConfig.getSlotGrid();
+    }
+
+    /**
+     * 매장/날짜별 예약된 슬롯 비트셋 조회
+     * 비트 인덱스는 {@link ReservationSlotGrid}의 슬롯 순번과 동일
+     * 인덱스가 아직 준비되지 않았거나 슬롯 그리드가 갱신 중인 경우 데이터베이스에서 직접 계산
+     *
+     * @param storeId 매장 ID
+     * @param date    예약 날짜
+     * @return 예약된 슬롯 비트셋 (복사본)
+     */
+    public BitSet getBookedSlots(Long storeId, LocalDate date) {
+        if (!isReady()) {
+            return loadBookedSlots(storeId, date);
+        }
+
+        BitSet bits = bookedSlots.get(new StoreDateKey(storeId, date));
+        if (bits == null) {
+            return new BitSet();
+        }
+
+        synchronized (bits) {
+            return (BitSet) bits.clone();
+        }
+    }
+
+    /**
+     * 슬롯 선점 시도
+     * 슬롯이 비어 있을 때만 원자적으로 점유 처리하며, 트랜잭션이 롤백되면 점유를 해제
+     * 인덱스가 준비되지 않은 경우 판단을 데이터베이스 유니크 제약조건에 맡김
+     * 실패는 이 노드 기준의 판단이므로 호출자는 필요하면 데이터베이스로 다시 확인
+     *
+     * @param storeId 매장 ID
+     * @param date    예약 날짜
+     * @param time    예약 시간
+     * @return 선점 성공 여부
+     */
+    public boolean tryOccupy(Long storeId, LocalDate date, LocalTime time) {
+        ReservationSlotGrid slotGrid = indexedGrid;
+        if (!ready || slotGrid != reservationConfig.getSlotGrid()) {
+            return true;
+        }
+
+        int slot = slotGrid.ordinalOf(time);
+        if (slot < 0) {
+            return true;
+        }
+
+        BitSet bits = bookedSlots.computeIfAbsent(new StoreDateKey(storeId, date), key -> new BitSet());
+        synchronized (bits) {
+            if (bits.get(slot)) {
+                return false;
+            }
+            bits.set(slot);
+        }
+
+        runAfterRollback(() -> release(storeId, date, time));
+        return true;
+    }
+
+    /**
+     * 이미 선점된 슬롯(홀드)을 현재 트랜잭션에 귀속
+     * 트랜잭션이 롤백되면 슬롯 점유를 해제
+     *
+     * @param storeId 매장 ID
+     * @param date    예약 날짜
+     * @param time    예약 시간
+     */
+    public void adoptClaim(Long storeId, LocalDate date, LocalTime time) {
+        runAfterRollback(() -> release(storeId, date, time));
+    }
+
+    /**
+     * 선점된 슬롯 해제 (만료되거나 취소된 홀드)
+     *
+     * @param storeId 매장 ID
+     * @param date    예약 날짜
+     * @param time    예약 시간
+     */
+    public void releaseClaim(Long storeId, LocalDate date, LocalTime time) {
+        release(storeId, date, time);
+    }
+
+    /**
+     * 예약 상태 변경을 인덱스에 반영
+     * 트랜잭션이 진행 중이면 커밋 이후에 반영
+     *
+     * @param reservation 예약 객체
+     * @param fromStatus  변경 전 상태 (신규 예약인 경우 null)
+     * @param toStatus    변경 후 상태
+     */
+    public void onStatusChanged(Reservation reservation, ReservationStatus fromStatus, ReservationStatus toStatus) {
+        boolean wasOccupying = fromStatus != null && OCCUPYING_STATUSES.contains(fromStatus);
+        boolean isOccupying = OCCUPYING_STATUSES.contains(toStatus);
+
+        if (wasOccupying == isOccupying) {
+            return;
+        }
+
+        Long storeId = reservation.getStore().getId();
+        LocalDate date = reservation.getReservationDate();
+        LocalTime time = reservation.getReservationTime();
+
+        runAfterCommit(() -> {
+            if (isOccupying) {
+                occupy(storeId, date, time);
+            } else {
+                release(storeId, date, time);
+            }
+        });
+    }
+
+    /**
+     * 일괄 상태 변경으로 점유가 끝난 슬롯 해제
+     * 트랜잭션이 진행 중이면 커밋 이후에 반영
+     *
+     * @param storeId 매장 ID
+     * @param date    예약 날짜
+     * @param time    예약 시간
+     */
+    public void onSlotVacated(Long storeId, LocalDate date, LocalTime time) {
+        runAfterCommit(() -> release(storeId, date, time));
+    }
+
+    /**
+     * 슬롯 점유 처리
+     *
+     * @param storeId 매장 ID
+     * @param date    예약 날짜
+     * @param time    예약 시간
+     */
+    private void occupy(Long storeId, LocalDate date, LocalTime time) {
+        ReservationSlotGrid slotGrid = indexedGrid;
+        int slot = slotGrid != null ? slotGrid.ordinalOf(time) : -1;
+        if (slot < 0) {
+            return;
+        }
+
+        BitSet bits = bookedSlots.computeIfAbsent(new StoreDateKey(storeId, date), key -> new BitSet());
+        synchronized (bits) {
+            bits.set(slot);
+        }
+    }
+
+    /**
+     * 슬롯 점유 해제 처리
+     *
+     * @param storeId 매장 ID
+     * @param date    예약 날짜
+     * @param time    예약 시간
+     */
+    private void release(Long storeId, LocalDate date, LocalTime time) {
+        ReservationSlotGrid slotGrid = indexedGrid;
+        int slot = slotGrid != null ? slotGrid.ordinalOf(time) : -1;
+        if (slot < 0) {
+            return;
+        }
+
+        BitSet bits = bookedSlots.get(new StoreDateKey(storeId, date));
+        if (bits == null) {
+            return;
+        }
+
+        synchronized (bits) {
+            bits.clear(slot);
+        }
+    }
+
+    /**
+     * 등록된 선점 제공자가 보유한 슬롯 점유 처리
+     */
+    private void occupyClaims() {
+        for (Supplier<List<ReservationSlotView>> claimSource : claimSources) {
+            for (ReservationSlotView slot : claimSource.get()) {
+                occupy(slot.getStoreId(), slot.getReservationDate(), slot.getReservationTime());
+            }
+        }
+    }
+
+    /**
+     * 인덱스 준비 전 데이터베이스에서 예약된 슬롯 비트셋 계산
+     *
+     * @param storeId 매장 ID
+     * @param date    예약 날짜
+     * @return 예약된 슬롯 비트셋
+     */
+    private BitSet loadBookedSlots(Long storeId, LocalDate date) {
+        ReservationSlotGrid slotGrid = reservationConfig.getSlotGrid();
+        BitSet bits = new BitSet();
+        reservationRepository.findByStoreIdAndReservationDateAndStatusIn(storeId, date, new ArrayList<>(OCCUPYING_STATUSES))
+                .forEach(reservation -> {
+                    int slot = slotGrid.ordinalOf(reservation.getReservationTime());
+                    if (slot >= 0) {
+                        bits.set(slot);
+                    }
+                });
+        return bits;
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 작업 실행 (트랜잭션이 없으면 즉시 실행)
+     *
+     * @param action 실행할 작업
+     */
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 롤백 이후 작업 실행 (트랜잭션이 없으면 실행하지 않음)
+     *
+     * @param action 실행할 작업
+     */
+    private void runAfterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * 매장 ID와 날짜로 구성된 인덱스 키
+     */
+    private record StoreDateKey(Long storeId, LocalDate date) {
+    }
+}
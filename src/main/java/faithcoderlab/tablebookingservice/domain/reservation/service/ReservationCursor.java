@@ -0,0 +1,90 @@
+package faithcoderlab.tablebookingservice.domain.reservation.service;
+
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationInfoView;
+import faithcoderlab.tablebookingservice.global.exception.CustomException;
+import faithcoderlab.tablebookingservice.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+
+/**
+ * 예약 목록 커서
+ * (예약 날짜, 예약 시간, 예약 ID) 키셋 페이지네이션에서 마지막으로 조회한 예약의 위치
+ *
+ * @param reservationDate 예약 날짜
+ * @param reservationTime 예약 시간
+ * @param reservationId   예약 ID
+ */
+record ReservationCursor(LocalDate reservationDate, LocalTime reservationTime, Long reservationId) {
+
+    /**
+     * 첫 페이지 조회용 커서 (모든 예약보다 뒤에 위치)
+     */
+    static final ReservationCursor FIRST = new ReservationCursor(LocalDate.of(9999, 12, 31), LocalTime.MAX, Long.MAX_VALUE);
+
+    /**
+     * 하루 예약 오름차순 조회의 첫 페이지용 커서 (해당 날짜의 모든 예약보다 앞에 위치)
+     *
+     * @param date 예약 날짜
+     * @return 커서
+     */
+    static ReservationCursor startOf(LocalDate date) {
+        return new ReservationCursor(date, LocalTime.MIN, 0L);
+    }
+
+    /**
+     * 예약 위치로 커서 생성
+     *
+     * @param reservation 예약 정보
+     * @return 커서
+     */
+    static ReservationCursor of(ReservationInfoView reservation) {
+        return new ReservationCursor(
+                reservation.getReservationDate(), reservation.getReservationTime(), reservation.getReservationId()
+        );
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 커서 문자열 (null이면 첫 페이지)
+     * @return 커서
+     * @throws CustomException 커서 형식이 올바르지 않을 경우
+     */
+    static ReservationCursor decode(String cursor) {
+        return decode(cursor, FIRST);
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 커서 문자열
+     * @param first  커서가 없을 때 사용할 첫 페이지용 커서
+     * @return 커서
+     * @throws CustomException 커서 형식이 올바르지 않을 경우
+     */
+    static ReservationCursor decode(String cursor, ReservationCursor first) {
+        if (cursor == null || cursor.isBlank()) {
+            return first;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new ReservationCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 커서 문자열 생성
+     *
+     * @return 커서 문자열
+     */
+    String encode() {
+        String raw = reservationDate + "|" + reservationTime + "|" + reservationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,262 @@
+package faithcoderlab.tablebookingservice.domain.reservation.service;
+
+import faithcoderlab.tablebookingservice.domain.reservation.entity.Reservation;
+import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationDailyStatsBackfill;
+import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationDailyStatsBackfillRepository;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationDailyStatsRepository;
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 일별 예약 통계 기록 클래스
+ * 예약 상태가 변경될 때 같은 트랜잭션 안에서 일별 예약 통계를 증감
+ */
+@Slf4j
+@Component
+public class ReservationDailyStatsRecorder {
+
+    private final ReservationDailyStatsRepository dailyStatsRepository;
+    private final ReservationDailyStatsBackfillRepository backfillRepository;
+    private final StoreRepository storeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long leaseSeconds;
+
+    /**
+     * 재계산 실행 권한에 기록하는 노드 식별자
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 통계 테이블 재계산이 끝났는지 여부
+     * 재계산이 끝나기 전에는 통계 조회가 원본 예약 데이터를 직접 집계
+     */
+    private volatile boolean backfilled = false;
+
+    /**
+     * 시작 시 재계산과 주기적 확인이 이 노드에서 동시에 실행되지 않도록 하는 잠금
+     */
+    private final ReentrantLock backfillLock = new ReentrantLock();
+
+    public ReservationDailyStatsRecorder(
+            ReservationDailyStatsRepository dailyStatsRepository,
+            ReservationDailyStatsBackfillRepository backfillRepository,
+            StoreRepository storeRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${reservation.stats.backfill-lease-seconds:300}") long leaseSeconds
+    ) {
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.backfillRepository = backfillRepository;
+        this.storeRepository = storeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    /**
+     * 애플리케이션 시작 시 통계 테이블 재계산 (최초 배포 시 한 번만 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        backfill();
+    }
+
+    /**
+     * 재계산이 끝나지 않은 경우 주기적으로 완료 여부 확인
+     * 다른 노드가 재계산 중이면 완료를 기다리고, 그 노드가 중단되어 권한이 만료되면 이어서 진행
+     */
+    @Scheduled(fixedDelayString = "${reservation.stats.backfill-check-interval-ms:60000}")
+    public void backfillIfPending() {
+        if (!backfilled) {
+            backfill();
+        }
+    }
+
+    /**
+     * 원본 예약 데이터로 통계 테이블 재계산
+     * 진행 상태 행으로 실행 권한을 얻은 한 노드만 실행하며, 완료된 뒤에는 다시 실행하지 않음
+     * 매장 단위로 별도 트랜잭션에서 처리하여 잠금 범위와 시간을 매장 하나로 제한하고,
+     * 매장마다 처리한 매장 ID를 기록하므로 중단되면 다음 매장부터 이어서 진행
+     */
+    private void backfill() {
+        if (!backfillLock.tryLock()) {
+            return;
+        }
+        try {
+            backfillIfNotCompleted();
+        } finally {
+            backfillLock.unlock();
+        }
+    }
+
+    private void backfillIfNotCompleted() {
+        transactionTemplate.executeWithoutResult(status ->
+                backfillRepository.createIfAbsent(ReservationDailyStatsBackfill.ID));
+
+        Integer claimed = transactionTemplate.execute(status -> backfillRepository.claim(
+                ReservationDailyStatsBackfill.ID, nodeId, LocalDateTime.now(), leaseExpiresAt()
+        ));
+
+        ReservationDailyStatsBackfill progress = backfillRepository.findById(ReservationDailyStatsBackfill.ID)
+                .orElseThrow();
+        if (progress.isCompleted()) {
+            backfilled = true;
+            return;
+        }
+        if (claimed == null || claimed == 0) {
+            log.info("Reservation daily stats backfill is running on another node");
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int stores = 0;
+        for (Long storeId : storeRepository.findAllIds()) {
+            if (storeId <= progress.getLastStoreId()) {
+                continue;
+            }
+
+            Boolean advanced = transactionTemplate.execute(status -> backfillStore(storeId));
+            if (!Boolean.TRUE.equals(advanced)) {
+                log.warn("Reservation daily stats backfill lease lost at store {}", storeId);
+                return;
+            }
+            stores++;
+        }
+
+        Integer completed = transactionTemplate.execute(status ->
+                backfillRepository.complete(ReservationDailyStatsBackfill.ID, nodeId));
+        if (completed == null || completed == 0) {
+            log.warn("Reservation daily stats backfill lease lost before completion");
+            return;
+        }
+
+        backfilled = true;
+        log.info("Reservation daily stats backfilled: {} stores in {} ms",
+                stores, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 매장 하나의 일별 예약 통계 재계산
+     * 진행 상태 행 → 예약 행 → 통계 행 순서로 잠근 뒤 기존 통계 행을 지우고 다시 집계하므로,
+     * 더 이상 존재하지 않는 집계 행도 함께 정리되고 진행 중인 상태 변경의 증감은 재계산 이후에만 반영됨
+     *
+     * @param storeId 매장 ID
+     * @return 처리 여부 (실행 권한을 빼앗긴 경우 false)
+     */
+    private boolean backfillStore(Long storeId) {
+        if (backfillRepository.advance(ReservationDailyStatsBackfill.ID, nodeId, storeId, leaseExpiresAt()) == 0) {
+            return false;
+        }
+
+        dailyStatsRepository.lockReservationsByStoreId(storeId);
+        dailyStatsRepository.deleteByStoreId(storeId);
+        dailyStatsRepository.backfillStore(storeId);
+        return true;
+    }
+
+    private LocalDateTime leaseExpiresAt() {
+        return LocalDateTime.now().plusSeconds(leaseSeconds);
+    }
+
+    /**
+     * 통계 테이블 사용 가능 여부 확인
+     *
+     * @return 재계산이 끝났으면 true
+     */
+    public boolean isBackfilled() {
+        return backfilled;
+    }
+
+    /**
+     * 예약 상태 변경을 일별 예약 통계에 반영
+     * 변경 전 상태의 행은 감소, 변경 후 상태의 행은 증가시키며
+     * 교착 상태를 피하기 위해 항상 상태 순서대로 행을 갱신
+     *
+     * @param reservation 예약 객체
+     * @param fromStatus  변경 전 상태 (신규 예약인 경우 null)
+     * @param toStatus    변경 후 상태
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onStatusChanged(Reservation reservation, ReservationStatus fromStatus, ReservationStatus toStatus) {
+        if (fromStatus == toStatus) {
+            return;
+        }
+
+        if (fromStatus == null) {
+            apply(reservation, toStatus, 1);
+            return;
+        }
+
+        if (fromStatus.ordinal() < toStatus.ordinal()) {
+            apply(reservation, fromStatus, -1);
+            apply(reservation, toStatus, 1);
+        } else {
+            apply(reservation, toStatus, 1);
+            apply(reservation, fromStatus, -1);
+        }
+    }
+
+    /**
+     * 같은 매장/날짜/시간 예약 여러 건의 일괄 상태 변경을 일별 예약 통계에 반영
+     * 교착 상태를 피하기 위해 항상 상태 순서대로 행을 갱신
+     *
+     * @param storeId         매장 ID
+     * @param reservationDate 예약 날짜
+     * @param reservationTime 예약 시간
+     * @param fromStatus      변경 전 상태
+     * @param toStatus        변경 후 상태
+     * @param count           변경된 예약 수
+     * @param partySizeSum    변경된 예약의 인원 수 합계
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onBulkStatusChanged(
+            Long storeId, LocalDate reservationDate, LocalTime reservationTime,
+            ReservationStatus fromStatus, ReservationStatus toStatus, long count, long partySizeSum
+    ) {
+        if (fromStatus == toStatus || count == 0) {
+            return;
+        }
+
+        ReservationStatus first = fromStatus.ordinal() < toStatus.ordinal() ? fromStatus : toStatus;
+        ReservationStatus second = first == fromStatus ? toStatus : fromStatus;
+
+        for (ReservationStatus status : new ReservationStatus[]{first, second}) {
+            long sign = status == fromStatus ? -1 : 1;
+            dailyStatsRepository.upsert(
+                    storeId, reservationDate, reservationTime, status.name(), sign * count, sign * partySizeSum
+            );
+        }
+    }
+
+    /**
+     * 매장/날짜/시간/상태 행에 예약 한 건 증감
+     *
+     * @param reservation 예약 객체
+     * @param status      예약 상태
+     * @param sign        증가(1) 또는 감소(-1)
+     */
+    private void apply(Reservation reservation, ReservationStatus status, int sign) {
+        dailyStatsRepository.upsert(
+                reservation.getStore().getId(),
+                reservation.getReservationDate(),
+                reservation.getReservationTime(),
+                status.name(),
+                sign,
+                (long) sign * reservation.getPartySize()
+        );
+    }
+}
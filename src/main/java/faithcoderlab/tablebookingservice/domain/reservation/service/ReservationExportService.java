@@ -0,0 +1,239 @@
+package faithcoderlab.tablebookingservice.domain.reservation.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationInfoView;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationRepository;
+import faithcoderlab.tablebookingservice.global.exception.CustomException;
+import faithcoderlab.tablebookingservice.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 예약 내보내기 서비스 클래스
+ * 파트너 매장의 예약 내역을 CSV 또는 NDJSON 형식으로 응답 스트림에 직접 기록
+ * 조회 결과를 목록으로 모으지 않고 한 행씩 기록하므로 행 수와 무관하게 메모리 사용량이 일정
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationExportService {
+
+    /**
+     * 내보내기 컬럼 (이름, 값 추출 함수)
+     */
+    private static final List<Column> COLUMNS = List.of(
+            new Column("reservationId", ReservationInfoView::getReservationId),
+            new Column("storeId", ReservationInfoView::getStoreId),
+            new Column("storeName", ReservationInfoView::getStoreName),
+            new Column("userId", ReservationInfoView::getUserId),
+            new Column("userName", ReservationInfoView::getUserName),
+            new Column("userPhone", ReservationInfoView::getUserPhone),
+            new Column("reservationDate", ReservationInfoView::getReservationDate),
+            new Column("reservationTime", ReservationInfoView::getReservationTime),
+            new Column("partySize", ReservationInfoView::getPartySize),
+            new Column("status", ReservationInfoView::getStatus),
+            new Column("arrivedAt", ReservationInfoView::getArrivedAt),
+            new Column("completedAt", ReservationInfoView::getCompletedAt),
+            new Column("specialRequests", ReservationInfoView::getSpecialRequests),
+            new Column("createdAt", ReservationInfoView::getCreatedAt),
+            new Column("updatedAt", ReservationInfoView::getUpdatedAt)
+    );
+
+    /**
+     * 스프레드시트에서 수식으로 해석되는 CSV 필드 첫 글자
+     */
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final ReservationRepository reservationRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 파트너 매장 예약 내보내기
+     * 요청 검증은 즉시 수행하고, 조회와 기록은 응답 본문을 쓰는 시점에 읽기 전용 트랜잭션 안에서 수행
+     *
+     * @param partnerId  파트너 ID
+     * @param storeId    매장 ID (선택적)
+     * @param startDate  시작 날짜
+     * @param endDate    종료 날짜
+     * @param statusList 내보낼 상태 목록 (선택적, 없으면 전체 상태)
+     * @param format     내보내기 형식
+     * @return 응답 본문 스트림
+     */
+    public StreamingResponseBody exportPartnerReservations(
+            Long partnerId, Long storeId, LocalDate startDate, LocalDate endDate,
+            List<String> statusList, Format format
+    ) {
+        validateDateRange(startDate, endDate);
+        List<ReservationStatus> statuses = ReservationStatus.parseAll(statusList);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<ReservationInfoView> reservations = reservationRepository.streamPartnerReservations(
+                        partnerId, storeId, startDate, endDate, statuses
+                )) {
+                    if (format == Format.CSV) {
+                        writeCsv(reservations, writer);
+                    } else {
+                        writeNdjson(reservations, writer);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            writer.flush();
+        };
+    }
+
+    /**
+     * CSV 형식으로 기록 (첫 행은 컬럼 이름)
+     *
+     * @param reservations 예약 정보 스트림
+     * @param writer       출력 대상
+     */
+    private void writeCsv(Stream<ReservationInfoView> reservations, Writer writer) throws IOException {
+        writer.write(COLUMNS.stream().map(Column::name).collect(Collectors.joining(",")));
+        writer.write("\r\n");
+
+        for (ReservationInfoView reservation : (Iterable<ReservationInfoView>) reservations::iterator) {
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = COLUMNS.get(i).extractor().apply(reservation);
+                if (value != null) {
+                    writer.write(escapeCsv(value.toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+    }
+
+    /**
+     * NDJSON 형식으로 기록 (한 줄에 예약 하나)
+     *
+     * @param reservations 예약 정보 스트림
+     * @param writer       출력 대상
+     */
+    private void writeNdjson(Stream<ReservationInfoView> reservations, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+
+        boolean empty = true;
+        for (ReservationInfoView reservation : (Iterable<ReservationInfoView>) reservations::iterator) {
+            generator.writeStartObject();
+            for (Column column : COLUMNS) {
+                generator.writeObjectField(column.name(), column.extractor().apply(reservation));
+            }
+            generator.writeEndObject();
+            empty = false;
+        }
+        generator.flush();
+
+        if (!empty) {
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * CSV 필드 이스케이프 (쉼표, 큰따옴표, 줄바꿈이 포함된 경우 큰따옴표로 감쌈)
+     * 스프레드시트에서 수식으로 실행되지 않도록 =, +, -, @, 탭, CR로 시작하는 값은 앞에 작은따옴표를 붙임
+     *
+     * @param value 필드 값
+     * @return 이스케이프된 필드 값
+     */
+    private String escapeCsv(String value) {
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * 내보내기 기간 유효성 검증 (최대 1년)
+     *
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     */
+    private void validateDateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "시작 날짜와 종료 날짜는 필수 입력 항목입니다.");
+        }
+
+        if (startDate.isAfter(endDate)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "시작 날짜는 종료 날짜보다 이전이어야 합니다.");
+        }
+
+        if (endDate.isAfter(startDate.plusYears(1))) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "최대 1년 기간의 예약만 내보낼 수 있습니다.");
+        }
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        /**
+         * 요청 파라미터로 내보내기 형식 조회
+         *
+         * @param format 형식 문자열 (csv, ndjson)
+         * @return 내보내기 형식
+         */
+        public static Format from(String format) {
+            try {
+                return valueOf(format.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST, "지원하지 않는 내보내기 형식: " + format);
+            }
+        }
+    }
+
+    /**
+     * 내보내기 컬럼
+     *
+     * @param name      컬럼 이름
+     * @param extractor 값 추출 함수
+     */
+    private record Column(String name, Function<ReservationInfoView, Object> extractor) {
+    }
+}
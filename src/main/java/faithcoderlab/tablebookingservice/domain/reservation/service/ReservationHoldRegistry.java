@@ -0,0 +1,298 @@
+package faithcoderlab.tablebookingservice.domain.reservation.service;
+
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationSlotView;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 예약 슬롯 홀드 저장소 클래스
+ * 예약 확정 전 짧은 시간 동안 슬롯을 선점하는 홀드를 메모리에 보관
+ * 만료 처리는 해시드 타이밍 휠로 수행하여 홀드 하나당 O(1) 비용으로 처리하며 전체 스캔을 하지 않음
+ */
+@Slf4j
+@Component
+public class ReservationHoldRegistry {
+
+    /**
+     * 타이밍 휠 한 칸의 길이 (밀리초)
+     */
+    private static final long TICK_MILLIS = 1000;
+
+    /**
+     * 타이밍 휠 칸 수 (2의 거듭제곱)
+     * 홀드 유지 시간이 휠 한 바퀴보다 짧으면 각 홀드는 만료 시점에 정확히 한 번만 확인됨
+     */
+    private static final int WHEEL_SIZE = 1024;
+
+    private final ReservationAvailabilityIndex availabilityIndex;
+    private final long ttlMillis;
+    private final int maxHoldsPerUser;
+
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> holdCountsByUser = new ConcurrentHashMap<>();
+    private final Set<SlotKey> heldSlots = ConcurrentHashMap.newKeySet();
+    private final List<Queue<Hold>> wheel;
+
+    private long lastProcessedTick;
+
+    public ReservationHoldRegistry(
+            ReservationAvailabilityIndex availabilityIndex,
+            @Value("${reservation.hold.ttl-seconds:120}") long ttlSeconds,
+            @Value("${reservation.hold.max-per-user:3}") int maxHoldsPerUser
+    ) {
+        if (ttlSeconds <= 0 || ttlSeconds * 1000 >= TICK_MILLIS * WHEEL_SIZE) {
+            throw new IllegalArgumentException("Reservation hold TTL must be between 1 and "
+                    + (TICK_MILLIS * WHEEL_SIZE / 1000 - 1) + " seconds: " + ttlSeconds);
+        }
+
+        this.availabilityIndex = availabilityIndex;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxHoldsPerUser = maxHoldsPerUser;
+        this.wheel = new ArrayList<>(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ConcurrentLinkedQueue<>());
+        }
+        this.lastProcessedTick = System.currentTimeMillis() / TICK_MILLIS;
+
+        availabilityIndex.registerClaimSource(this::heldSlots);
+    }
+
+    /**
+     * 홀드 등록
+     * 슬롯은 호출 전에 {@link ReservationAvailabilityIndex#tryOccupy}로 선점되어 있어야 함
+     *
+     * @param userId  사용자 ID
+     * @param storeId 매장 ID
+     * @param date    예약 날짜
+     * @param time    예약 시간
+     * @return 등록된 홀드 (사용자별 최대 홀드 수를 초과하면 null)
+     */
+    public Hold place(Long userId, Long storeId, LocalDate date, LocalTime time) {
+        Integer count = holdCountsByUser.merge(userId, 1, Integer::sum);
+        if (count > maxHoldsPerUser) {
+            decrementHoldCount(userId);
+            return null;
+        }
+
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        Hold hold = new Hold(UUID.randomUUID().toString(), userId, storeId, date, time, expiresAt);
+
+        holds.put(hold.getHoldId(), hold);
+        heldSlots.add(hold.slotKey());
+        wheel.get(bucketOf(hold.deadlineTick())).offer(hold);
+
+        return hold;
+    }
+
+    /**
+     * 홀드를 예약으로 전환하기 위해 소비
+     * 사용자와 슬롯이 모두 일치하고 만료되지 않은 경우에만 제거하며, 슬롯 점유는 유지
+     *
+     * @param holdId  홀드 ID
+     * @param userId  사용자 ID
+     * @param storeId 매장 ID
+     * @param date    예약 날짜
+     * @param time    예약 시간
+     * @return 소비 성공 여부
+     */
+    public boolean consume(String holdId, Long userId, Long storeId, LocalDate date, LocalTime time) {
+        Hold hold = holds.get(holdId);
+        if (hold == null || !hold.matches(userId, storeId, date, time)) {
+            return false;
+        }
+
+        if (hold.isExpired(System.currentTimeMillis())) {
+            expire(hold);
+            return false;
+        }
+
+        if (!holds.remove(holdId, hold)) {
+            return false;
+        }
+
+        heldSlots.remove(hold.slotKey());
+        decrementHoldCount(userId);
+        return true;
+    }
+
+    /**
+     * 홀드 해제 (사용자가 직접 취소)
+     *
+     * @param holdId 홀드 ID
+     * @param userId 사용자 ID
+     * @return 해제 성공 여부
+     */
+    public boolean release(String holdId, Long userId) {
+        Hold hold = holds.get(holdId);
+        if (hold == null || !hold.getUserId().equals(userId)) {
+            return false;
+        }
+
+        return expire(hold);
+    }
+
+    /**
+     * 만료된 홀드 정리 (1초마다 실행)
+     * 마지막 처리 이후 지나간 타이밍 휠 칸만 확인
+     */
+    @Scheduled(fixedRate = TICK_MILLIS)
+    public synchronized void expireHolds() {
+        long now = System.currentTimeMillis();
+        long currentTick = now / TICK_MILLIS;
+        long fromTick = Math.max(lastProcessedTick + 1, currentTick - WHEEL_SIZE + 1);
+
+        int expired = 0;
+        for (long tick = fromTick; tick <= currentTick; tick++) {
+            Queue<Hold> bucket = wheel.get(bucketOf(tick));
+            List<Hold> pending = new ArrayList<>();
+
+            Hold hold;
+            while ((hold = bucket.poll()) != null) {
+                if (hold.deadlineTick() > currentTick) {
+                    pending.add(hold);
+                } else if (expire(hold)) {
+                    expired++;
+                }
+            }
+
+            bucket.addAll(pending);
+        }
+        lastProcessedTick = currentTick;
+
+        if (expired > 0) {
+            log.debug("Expired {} reservation holds", expired);
+        }
+    }
+
+    /**
+     * 슬롯에 유효한 홀드가 있는지 확인
+     *
+     * @param storeId 매장 ID
+     * @param date    예약 날짜
+     * @param time    예약 시간
+     * @return 홀드 존재 여부
+     */
+    public boolean isHeld(Long storeId, LocalDate date, LocalTime time) {
+        return heldSlots.contains(new SlotKey(storeId, date, time));
+    }
+
+    /**
+     * 홀드로 선점 중인 슬롯 목록 조회 (가용성 인덱스 재구성 시 사용)
+     *
+     * @return 선점 중인 슬롯 목록 (복사본)
+     */
+    public List<ReservationSlotView> heldSlots() {
+        return List.copyOf(heldSlots);
+    }
+
+    /**
+     * 현재 유지 중인 홀드 수 조회
+     *
+     * @return 홀드 수
+     */
+    public int size() {
+        return holds.size();
+    }
+
+    /**
+     * 홀드를 제거하고 선점한 슬롯 해제
+     * 이미 소비되었거나 해제된 홀드는 무시
+     *
+     * @param hold 홀드
+     * @return 제거 여부
+     */
+    private boolean expire(Hold hold) {
+        if (!holds.remove(hold.getHoldId(), hold)) {
+            return false;
+        }
+
+        heldSlots.remove(hold.slotKey());
+        decrementHoldCount(hold.getUserId());
+        availabilityIndex.releaseClaim(hold.getStoreId(), hold.getDate(), hold.getTime());
+        return true;
+    }
+
+    private void decrementHoldCount(Long userId) {
+        holdCountsByUser.computeIfPresent(userId, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private int bucketOf(long tick) {
+        return (int) (tick & (WHEEL_SIZE - 1));
+    }
+
+    /**
+     * 슬롯 홀드 정보
+     */
+    @Getter
+    public static class Hold {
+        private final String holdId;
+        private final Long userId;
+        private final Long storeId;
+        private final LocalDate date;
+        private final LocalTime time;
+        private final long expiresAt;
+
+        private Hold(String holdId, Long userId, Long storeId, LocalDate date, LocalTime time, long expiresAt) {
+            this.holdId = holdId;
+            this.userId = userId;
+            this.storeId = storeId;
+            this.date = date;
+            this.time = time;
+            this.expiresAt = expiresAt;
+        }
+
+        private SlotKey slotKey() {
+            return new SlotKey(storeId, date, time);
+        }
+
+        private long deadlineTick() {
+            return (expiresAt + TICK_MILLIS - 1) / TICK_MILLIS;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+
+        private boolean matches(Long userId, Long storeId, LocalDate date, LocalTime time) {
+            return this.userId.equals(userId)
+                    && this.storeId.equals(storeId)
+                    && this.date.equals(date)
+                    && this.time.equals(time);
+        }
+    }
+
+    /**
+     * 매장, 예약 날짜, 예약 시간으로 구성된 슬롯 키
+     */
+    private record SlotKey(Long storeId, LocalDate date, LocalTime time) implements ReservationSlotView {
+
+        @Override
+        public Long getStoreId() {
+            return storeId;
+        }
+
+        @Override
+        public LocalDate getReservationDate() {
+            return date;
+        }
+
+        @Override
+        public LocalTime getReservationTime() {
+            return time;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package faithcoderlab.tablebookingservice.domain.reservation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import faithcoderlab.tablebookingservice.domain.reservation.dto.ReservationDto;
+import faithcoderlab.tablebookingservice.global.exception.CustomException;
+import faithcoderlab.tablebookingservice.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 예약 생성 멱등성 저장소 클래스
+ * Idempotency-Key 별로 최근 예약 생성 응답을 보관하여
+ * 재시도 요청에 서비스 및 데이터베이스 접근 없이 동일한 응답 반환
+ * 키는 예약 생성 전에 처리 중 상태로 먼저 등록하므로 같은 키의 동시 요청 중 하나만 예약을 생성하고,
+ * 나머지는 처리 결과를 기다렸다가 같은 응답을 받음
+ * 키에는 요청 본문 해시를 함께 저장하여 다른 요청 본문에 같은 키를 재사용하면 거절
+ * 최대 개수를 넘으면 가장 오래된 항목부터, 보관 기간이 지나면 조회 시점에 제거
+ */
+@Component
+public class ReservationIdempotencyStore {
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final long waitMillis;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    public ReservationIdempotencyStore(
+            ObjectMapper objectMapper,
+            @Value("${reservation.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${reservation.idempotency.ttl-minutes:60}") long ttlMinutes,
+            @Value("${reservation.idempotency.wait-millis:5000}") long waitMillis
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMinutes * 60 * 1000;
+        this.waitMillis = waitMillis;
+    }
+
+    /**
+     * 멱등성 키로 예약 생성 실행
+     * 처음 들어온 요청만 예약 생성 작업을 실행하고, 같은 키의 재시도 요청은 저장된 응답을 반환
+     * 작업이 실패하면 키를 해제하여, 기다리던 재시도 요청이나 이후 요청이 같은 키로 다시 실행할 수 있도록 함
+     *
+     * @param principal      요청자 식별자 (이메일)
+     * @param idempotencyKey 멱등성 키
+     * @param request        예약 생성 요청 정보
+     * @param action         예약 생성 작업
+     * @return 예약 생성 응답 (재시도 요청인 경우 처음 생성된 응답)
+     * @throws CustomException 다른 요청 본문에 사용된 키이거나, 같은 키의 요청이 대기 시간 안에 끝나지 않은 경우
+     */
+    public ReservationDto.CreateResponse execute(
+            String principal, String idempotencyKey, ReservationDto.CreateRequest request,
+            Supplier<ReservationDto.CreateResponse> action
+    ) {
+        String key = toKey(principal, idempotencyKey);
+        String requestHash = hash(request);
+        long deadline = System.currentTimeMillis() + waitMillis;
+
+        while (true) {
+            Entry entry;
+            boolean owner = false;
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                evictExpired(now);
+
+                entry = entries.get(key);
+                if (entry == null) {
+                    entry = new Entry(requestHash, new CompletableFuture<>(), now + ttlMillis);
+                    store(key, entry);
+                    owner = true;
+                }
+            }
+
+            if (!entry.requestHash().equals(requestHash)) {
+                throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_MISMATCH);
+            }
+
+            if (owner) {
+                return run(key, entry, action);
+            }
+
+            ReservationDto.CreateResponse response = await(entry, deadline);
+            if (response != null) {
+                return response;
+            }
+        }
+    }
+
+    /**
+     * 예약 생성 작업 실행 후 결과를 기다리는 요청에 전달
+     *
+     * @param key    저장 키
+     * @param entry  저장 항목
+     * @param action 예약 생성 작업
+     * @return 예약 생성 응답
+     */
+    private ReservationDto.CreateResponse run(
+            String key, Entry entry, Supplier<ReservationDto.CreateResponse> action
+    ) {
+        ReservationDto.CreateResponse response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(key, entry);
+            entry.response().completeExceptionally(e);
+            throw e;
+        }
+
+        entry.response().complete(response);
+        return response;
+    }
+
+    /**
+     * 같은 키로 처리 중인 요청의 결과 대기
+     *
+     * @param entry    저장 항목
+     * @param deadline 대기 종료 시각 (밀리초)
+     * @return 처음 생성된 예약 생성 응답 (처리에 실패하여 키가 해제된 경우 null)
+     * @throws CustomException 대기 시간 안에 처리가 끝나지 않은 경우
+     */
+    private ReservationDto.CreateResponse await(Entry entry, long deadline) {
+        try {
+            return entry.response().get(
+                    Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS
+            );
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (TimeoutException e) {
+            throw new CustomException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    /**
+     * 항목 저장 (최대 개수를 넘으면 가장 오래된 항목부터 제거)
+     *
+     * @param key   저장 키
+     * @param entry 저장 항목
+     */
+    private void store(String key, Entry entry) {
+        entries.put(key, entry);
+
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 실패한 요청의 키 해제 (그 사이 다른 항목으로 바뀐 경우 무시)
+     *
+     * @param key   저장 키
+     * @param entry 저장 항목
+     */
+    private synchronized void release(String key, Entry entry) {
+        entries.remove(key, entry);
+    }
+
+    /**
+     * 만료된 항목 제거
+     * 삽입 순서와 만료 순서가 같으므로 가장 오래된 항목부터 만료되지 않은 항목을 만날 때까지만 확인
+     *
+     * @param now 현재 시각 (밀리초)
+     */
+    private void evictExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt() > now) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 요청 본문 해시 생성
+     *
+     * @param request 예약 생성 요청 정보
+     * @return 요청 본문 JSON의 SHA-256 해시 (Base64)
+     */
+    private String hash(ReservationDto.CreateRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize reservation request", e);
+        }
+    }
+
+    /**
+     * 요청자별로 멱등성 키를 구분하기 위한 저장 키 생성
+     */
+    private String toKey(String principal, String idempotencyKey) {
+        return principal + ":" + idempotencyKey;
+    }
+
+    /**
+     * 저장 항목 (요청 본문 해시, 예약 생성 응답, 만료 시각)
+     * 응답은 처리 중에는 완료되지 않은 상태이며, 같은 키의 재시도 요청은 완료될 때까지 대기
+     */
+    private record Entry(String requestHash, CompletableFuture<ReservationDto.CreateResponse> response,
+                         long expiresAt) {
+    }
+}
@@ -0,0 +1,196 @@
+package faithcoderlab.tablebookingservice.domain.reservation.service;
+
+import faithcoderlab.tablebookingservice.domain.reservation.config.ReservationConfig;
+import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationRepository;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationSweepView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 노쇼 처리 스케줄러 클래스
+ * 도착 확인 허용 시간이 지난 승인된 예약을 매장별로 병렬 처리하여 노쇼 상태로 일괄 변경
+ * 매장별로 예약을 잠그고(SKIP LOCKED) 일괄 UPDATE하므로 여러 노드에서 동시에 실행해도 안전
+ */
+@Slf4j
+@Component
+public class ReservationNoShowSweeper {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationDailyStatsRecorder dailyStatsRecorder;
+    private final ReservationAvailabilityIndex availabilityIndex;
+    private final ReservationConfig reservationConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int batchSize;
+
+    private final Counter transitionedCounter;
+    private final Timer sweepTimer;
+
+    public ReservationNoShowSweeper(
+            ReservationRepository reservationRepository,
+            ReservationDailyStatsRecorder dailyStatsRecorder,
+            ReservationAvailabilityIndex availabilityIndex,
+            ReservationConfig reservationConfig,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.no-show.batch-size:500}") int batchSize,
+            @Value("${reservation.no-show.parallelism:4}") int parallelism
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.dailyStatsRecorder = dailyStatsRecorder;
+        this.availabilityIndex = availabilityIndex;
+        this.reservationConfig = reservationConfig;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "no-show-sweeper-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.transitionedCounter = Counter.builder("reservation.no_show.transitioned")
+                .description("Reservations moved from CONFIRMED to NO_SHOW")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("reservation.no_show.sweep")
+                .description("Duration of a no-show sweep run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 노쇼 처리 (기본 1분마다 실행)
+     * 기준 시각(현재 시각 - 도착 확인 허용 시간) 이전의 승인된 예약을 노쇼로 변경
+     */
+    @Scheduled(fixedDelayString = "${reservation.no-show.sweep-interval-ms:60000}")
+    public void sweep() {
+        long startedAt = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(reservationConfig.getArrivalGraceMinutes());
+
+        List<Long> storeIds = reservationRepository.findStoreIdsWithOverdueConfirmed(
+                cutoff.toLocalDate(), cutoff.toLocalTime()
+        );
+        if (storeIds.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<Integer>> futures = storeIds.stream()
+                .map(storeId -> CompletableFuture.supplyAsync(() -> sweepStore(storeId, cutoff), executor))
+                .toList();
+
+        int transitioned = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                transitioned += futures.get(i).join();
+            } catch (RuntimeException e) {
+                log.warn("No-show sweep failed for store {}", storeIds.get(i), e);
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        sweepTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("No-show sweep transitioned {} reservations across {} stores in {} ms",
+                transitioned, storeIds.size(), elapsedNanos / 1_000_000);
+    }
+
+    /**
+     * 매장 하나의 노쇼 대상 예약을 배치 단위로 처리
+     *
+     * @param storeId 매장 ID
+     * @param cutoff  기준 시각
+     * @return 노쇼로 변경된 예약 수
+     */
+    private int sweepStore(Long storeId, LocalDateTime cutoff) {
+        int total = 0;
+        BatchResult result;
+        do {
+            result = transactionTemplate.execute(status -> sweepBatch(storeId, cutoff));
+            transitionedCounter.increment(result.updated());
+            total += result.updated();
+        } while (result.locked() == batchSize);
+        return total;
+    }
+
+    /**
+     * 노쇼 대상 예약 한 배치를 잠그고 일괄 변경
+     * 일별 통계와 예약 가능 시간 인덱스도 같은 트랜잭션에서 함께 반영
+     *
+     * @param storeId 매장 ID
+     * @param cutoff  기준 시각
+     * @return 배치 처리 결과
+     */
+    private BatchResult sweepBatch(Long storeId, LocalDateTime cutoff) {
+        List<ReservationSweepView> batch = reservationRepository.lockOverdueConfirmed(
+                storeId, cutoff.toLocalDate(), cutoff.toLocalTime(), batchSize
+        );
+        if (batch.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        int updated = reservationRepository.bulkUpdateStatus(
+                batch.stream().map(ReservationSweepView::getId).toList(),
+                ReservationStatus.CONFIRMED, ReservationStatus.NO_SHOW, LocalDateTime.now(), null
+        );
+
+        Map<SlotKey, long[]> totals = new HashMap<>();
+        for (ReservationSweepView reservation : batch) {
+            long[] slotTotals = totals.computeIfAbsent(
+                    new SlotKey(reservation.getReservationDate(), reservation.getReservationTime()),
+                    key -> new long[2]
+            );
+            slotTotals[0]++;
+            slotTotals[1] += reservation.getPartySize();
+        }
+
+        totals.forEach((slot, slotTotals) -> {
+            dailyStatsRecorder.onBulkStatusChanged(
+                    storeId, slot.date(), slot.time(),
+                    ReservationStatus.CONFIRMED, ReservationStatus.NO_SHOW, slotTotals[0], slotTotals[1]
+            );
+            availabilityIndex.onSlotVacated(storeId, slot.date(), slot.time());
+        });
+
+        return new BatchResult(batch.size(), updated);
+    }
+
+    /**
+     * 애플리케이션 종료 시 처리 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 배치 처리 결과 (잠근 예약 수, 변경된 예약 수)
+     */
+    private record BatchResult(int locked, int updated) {
+    }
+
+    /**
+     * 예약 날짜와 시간으로 구성된 슬롯 키
+     */
+    private record SlotKey(LocalDate date, LocalTime time) {
+    }
+}
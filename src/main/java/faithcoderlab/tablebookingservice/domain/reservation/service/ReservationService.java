@@ -3,28 +3,38 @@ package faithcoderlab.tablebookingservice.domain.reservation.service;
 import faithcoderlab.tablebookingservice.domain.notification.service.NotificationService;
 import faithcoderlab.tablebookingservice.domain.partner.repository.PartnerRepository;
 import faithcoderlab.tablebookingservice.domain.reservation.config.ReservationConfig;
+import faithcoderlab.tablebookingservice.domain.reservation.config.ReservationSlotGrid;
 import faithcoderlab.tablebookingservice.domain.reservation.dto.ReservationApprovalDto;
 import faithcoderlab.tablebookingservice.domain.reservation.dto.ReservationDto;
 import faithcoderlab.tablebookingservice.domain.reservation.entity.Reservation;
 import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationInfoView;
 import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationRepository;
 import faithcoderlab.tablebookingservice.domain.store.entity.Store;
 import faithcoderlab.tablebookingservice.domain.store.repository.StoreRepository;
+import faithcoderlab.tablebookingservice.domain.store.service.StoreMetricsChangedEvent;
 import faithcoderlab.tablebookingservice.domain.user.entity.User;
 import faithcoderlab.tablebookingservice.domain.user.repository.UserRepository;
 import faithcoderlab.tablebookingservice.global.exception.CustomException;
 import faithcoderlab.tablebookingservice.global.exception.ErrorCode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -35,12 +45,43 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ReservationService {
 
+    /**
+     * 예약 목록 페이지 최대 크기
+     */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 슬롯을 점유하는 예약 상태 (대기 중, 승인됨)
+     */
+    private static final List<ReservationStatus> OCCUPYING_STATUSES =
+            List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+
+    /**
+     * 예약 목록 키셋 페이지 정렬 순서 ((예약 날짜, 예약 시간, 예약 ID) 내림차순)
+     */
+    private static final Comparator<ReservationInfoView> PAGE_ORDER = Comparator
+            .comparing(ReservationInfoView::getReservationDate)
+            .thenComparing(ReservationInfoView::getReservationTime)
+            .thenComparing(ReservationInfoView::getReservationId)
+            .reversed();
+
+    /**
+     * 하루 예약 목록 키셋 페이지 정렬 순서 ((예약 시간, 예약 ID) 오름차순)
+     */
+    private static final Comparator<ReservationInfoView> DAY_PAGE_ORDER = Comparator
+            .comparing(ReservationInfoView::getReservationTime)
+            .thenComparing(ReservationInfoView::getReservationId);
+
     private final ReservationRepository reservationRepository;
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
-    private final ReservationConfig reservationConfig;
     private final PartnerRepository partnerRepository;
+    private final ReservationConfig reservationConfig;
     private final NotificationService notificationService;
+    private final ReservationAvailabilityIndex availabilityIndex;
+    private final ReservationHoldRegistry holdRegistry;
+    private final ReservationDailyStatsRecorder dailyStatsRecorder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 예약 가능 시간 조회 메서드
@@ -70,29 +111,15 @@ public class ReservationService {
             );
         }
 
-        List<ReservationStatus> activeStatuses = Arrays.asList(
-                ReservationStatus.PENDING,
-                ReservationStatus.CONFIRMED
-        );
+        ReservationSlotGrid slotGrid = reservationConfig.getSlotGrid();
+        BitSet bookedSlots = availabilityIndex.getBookedSlots(request.getStoreId(), request.getDate());
 
-        List<Reservation> existingReservations = reservationRepository.findByStoreIdAndReservationDateAndStatusIn(
-                request.getStoreId(),
-                request.getDate(),
-                activeStatuses
-        );
+        int firstSlot = request.getDate().equals(today) ? slotGrid.firstOrdinalAfter(LocalTime.now()) : 0;
 
-        List<LocalTime> bookedTimes = existingReservations.stream()
-                .map(Reservation::getReservationTime)
-                .collect(Collectors.toList());
-
-        List<LocalTime> allTimeSlots = reservationConfig.getAllAvailableTimes();
-
-        LocalTime currentTime = LocalTime.now();
-
-        List<LocalTime> availableTimes = allTimeSlots.stream()
-                .filter(time -> !bookedTimes.contains(time))
-                .filter(time -> !request.getDate().equals(today) || time.isAfter(currentTime))
-                .collect(Collectors.toList());
+        List<LocalTime> availableTimes = new ArrayList<>();
+        for (int slot = bookedSlots.nextClearBit(firstSlot); slot < slotGrid.size(); slot = bookedSlots.nextClearBit(slot + 1)) {
+            availableTimes.add(slotGrid.timeAt(slot));
+        }
 
         return ReservationDto.AvailableTimesResponse.builder()
                 .storeId(store.getId())
@@ -123,7 +150,7 @@ public class ReservationService {
 
         validateReservationDateTime(request.getReservationDate(), request.getReservationTime());
 
-        checkTimeAvailability(request.getStoreId(), request.getReservationDate(), request.getReservationTime());
+        admitReservation(userId, request);
 
         Reservation reservation = Reservation.builder()
                 .user(user)
@@ -135,7 +162,15 @@ public class ReservationService {
                 .specialRequests(request.getSpecialRequests())
                 .build();
 
-        Reservation savedReservation = reservationRepository.save(reservation);
+        Reservation savedReservation;
+        try {
+            savedReservation = reservationRepository.saveAndFlush(reservation);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(ErrorCode.RESERVATION_ALREADY_EXISTS);
+        }
+        availabilityIndex.onStatusChanged(savedReservation, null, savedReservation.getStatus());
+        dailyStatsRecorder.onStatusChanged(savedReservation, null, savedReservation.getStatus());
+        eventPublisher.publishEvent(new StoreMetricsChangedEvent(store.getId()));
 
         return ReservationDto.CreateResponse.builder()
                 .reservationId(savedReservation.getId())
@@ -153,30 +188,94 @@ public class ReservationService {
     }
 
     /**
-     * 예약 시간 가용성 검증 메서드
+     * 예약 슬롯 선점 메서드
+     * 요청자가 해당 슬롯의 유효한 홀드를 가지고 있으면 홀드를 예약으로 전환하고,
+     * 그렇지 않으면 인메모리 인덱스에서 슬롯을 원자적으로 선점하여 같은 노드의 동시 요청 중 하나만 통과
+     * 인덱스는 노드별 참고용 정보이므로 다른 노드에서 해제된 슬롯이 점유된 것으로 남아 있을 수 있음
+     * 이 경우 홀드와 데이터베이스를 확인하고, 최종 판단은 reservations 테이블의 유니크 제약조건에 맡김
      *
-     * @param storeId 매장 ID
-     * @param date    예약 날짜
-     * @param time    예약 시간
+     * @param userId  사용자 ID
+     * @param request 예약 생성 요청 정보
      */
-    private void checkTimeAvailability(Long storeId, LocalDate date, LocalTime time) {
-        List<ReservationStatus> activeStatuses = Arrays.asList(
-                ReservationStatus.PENDING,
-                ReservationStatus.CONFIRMED
-        );
+    private void admitReservation(Long userId, ReservationDto.CreateRequest request) {
+        Long storeId = request.getStoreId();
+        LocalDate date = request.getReservationDate();
+        LocalTime time = request.getReservationTime();
+
+        if (request.getHoldId() != null && holdRegistry.consume(request.getHoldId(), userId, storeId, date, time)) {
+            availabilityIndex.adoptClaim(storeId, date, time);
+            return;
+        }
 
-        boolean isTimeBooked = reservationRepository.existsByStoreIdAndReservationDateAndReservationTimeAndStatusIn(
-                storeId,
-                date,
-                time,
-                activeStatuses
-        );
+        if (availabilityIndex.tryOccupy(storeId, date, time)) {
+            return;
+        }
 
-        if (isTimeBooked) {
+        if (holdRegistry.isHeld(storeId, date, time)
+                || reservationRepository.existsByStoreIdAndReservationDateAndReservationTimeAndStatusIn(
+                        storeId, date, time, OCCUPYING_STATUSES)) {
             throw new CustomException(ErrorCode.RESERVATION_ALREADY_EXISTS);
         }
     }
 
+    /**
+     * 예약 슬롯 홀드 메서드
+     * 예약 정보를 입력하는 동안 슬롯을 일정 시간 선점하며, 예약 데이터는 저장하지 않음
+     * 홀드된 슬롯은 즉시 예약 가능 시간 목록에서 제외되고 만료 시 자동으로 해제
+     *
+     * @param userId  사용자 ID
+     * @param request 홀드 요청 정보
+     * @return 홀드 정보
+     */
+    @Transactional(readOnly = true)
+    public ReservationDto.HoldResponse holdSlot(Long userId, ReservationDto.HoldRequest request) {
+        Store store = storeRepository.findById(request.getStoreId())
+                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+
+        if (!store.isActive()) {
+            throw new CustomException(ErrorCode.STORE_NOT_FOUND);
+        }
+
+        validateReservationDateTime(request.getReservationDate(), request.getReservationTime());
+
+        if (!availabilityIndex.isReady()) {
+            throw new CustomException(ErrorCode.RESERVATION_NOT_ALLOWED, "잠시 후 다시 시도해주세요.");
+        }
+
+        if (!availabilityIndex.tryOccupy(request.getStoreId(), request.getReservationDate(), request.getReservationTime())) {
+            throw new CustomException(ErrorCode.RESERVATION_ALREADY_EXISTS);
+        }
+
+        ReservationHoldRegistry.Hold hold = holdRegistry.place(
+                userId, request.getStoreId(), request.getReservationDate(), request.getReservationTime()
+        );
+
+        if (hold == null) {
+            throw new CustomException(ErrorCode.RESERVATION_HOLD_LIMIT_EXCEEDED);
+        }
+
+        return ReservationDto.HoldResponse.builder()
+                .holdId(hold.getHoldId())
+                .storeId(store.getId())
+                .storeName(store.getName())
+                .reservationDate(hold.getDate())
+                .reservationTime(hold.getTime())
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(hold.getExpiresAt()), ZoneId.systemDefault()))
+                .build();
+    }
+
+    /**
+     * 예약 슬롯 홀드 해제 메서드
+     *
+     * @param userId 사용자 ID
+     * @param holdId 홀드 ID
+     */
+    public void releaseHold(Long userId, String holdId) {
+        if (!holdRegistry.release(holdId, userId)) {
+            throw new CustomException(ErrorCode.RESERVATION_HOLD_NOT_FOUND);
+        }
+    }
+
     /**
      * 예약 날짜 및 시간 유효성 검증 메서드
      *
@@ -203,156 +302,182 @@ public class ReservationService {
                     ));
         }
 
-        LocalTime startTime = reservationConfig.getOperationStartTime();
-        LocalTime endTime = reservationConfig.getOperationEndTime();
+        ReservationSlotGrid slotGrid = reservationConfig.getSlotGrid();
 
-        if (time.isBefore(startTime) || time.isAfter(endTime)) {
+        if (!slotGrid.isWithinOperation(time)) {
             throw new CustomException(
                     ErrorCode.INVALID_RESERVATION_TIME,
-                    String.format("예약 가능 시간은 %s부터 %s까지입니다.", startTime, endTime)
+                    String.format("예약 가능 시간은 %s부터 %s까지입니다.", slotGrid.getStartTime(), slotGrid.getEndTime())
             );
         }
 
-        int minutes = time.getMinute();
-        if (minutes % reservationConfig.getIntervalMinutes() != 0) {
+        if (slotGrid.ordinalOf(time) < 0) {
             throw new CustomException(
                     ErrorCode.INVALID_RESERVATION_TIME,
-                    String.format("예약은 %d분 단위로만 가능합니다.", reservationConfig.getIntervalMinutes())
+                    String.format("예약은 %d분 단위로만 가능합니다.", slotGrid.getIntervalMinutes())
             );
         }
     }
 
     /**
      * 사용자별 예약 목록 조회 메서드
+     * (예약 날짜, 예약 시간, 예약 ID) 내림차순 키셋 페이지네이션으로 조회하여 페이지 위치와 무관하게 일정한 비용으로 조회
      *
      * @param userId     사용자 ID
      * @param statusList 조회할 상태 목록 (선택적)
-     * @return 사용자의 예약 목록
+     * @param cursor     이전 페이지의 다음 커서 (선택적, 없으면 첫 페이지)
+     * @param size       페이지 크기
+     * @return 사용자의 예약 목록 페이지
      */
     @Transactional(readOnly = true)
-    public List<ReservationDto.ReservationInfoResponse> getUserReservations(Long userId, List<String> statusList) {
+    public ReservationDto.ReservationPageResponse getUserReservations(
+            Long userId, List<String> statusList, String cursor, int size
+    ) {
+        validatePageSize(size);
+
         if (!userRepository.existsById(userId)) {
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
 
-        List<ReservationStatus> statuses = getReservationStatuses(statusList);
-
-        List<Reservation> reservations;
-        if (statuses.isEmpty()) {
-            reservations = reservationRepository.findByUserIdOrderByReservationDateDescReservationTimeDesc(userId);
-        } else {
-            reservations = reservationRepository.findByUserIdAndStatusInOrderByReservationDateDescReservationTimeDesc(
-                    userId, statuses
-            );
-        }
+        ReservationCursor position = ReservationCursor.decode(cursor);
+        List<ReservationInfoView> reservations = reservationRepository.findUserReservationPage(
+                userId, ReservationStatus.parseAll(statusList),
+                position.reservationDate(), position.reservationTime(), position.reservationId(),
+                PageRequest.of(0, size + 1)
+        );
 
-        return reservations.stream()
-                .map(this::converToReservationInfoResponse)
-                .collect(Collectors.toList());
+        return toPageResponse(reservations, size);
     }
 
     /**
      * 파트너별 매장 예약 목록 조회 메서드
+     * 매장마다 인덱스 순서대로 페이지 크기보다 하나 더 조회한 뒤 병합하므로 파트너의 전체 예약을 정렬하지 않음
+     * 날짜를 지정하면 해당 날짜의 예약을 (예약 시간, 예약 ID) 오름차순으로,
+     * 지정하지 않으면 (예약 날짜, 예약 시간, 예약 ID) 내림차순 키셋 페이지네이션으로 조회
      *
      * @param partnerId  파트너 ID
-     * @param storeId    매장 ID (선택적)
+     * @param storeId    매장 ID (선택적, 없으면 파트너의 전체 매장)
      * @param date       예약 날짜 (선택적)
      * @param statusList 조회할 상태 목록 (선택적)
-     * @return 매장 예약 목록
+     * @param cursor     이전 페이지의 다음 커서 (선택적, 없으면 첫 페이지)
+     * @param size       페이지 크기
+     * @return 매장 예약 목록 페이지
+     * @throws CustomException 파트너나 매장을 찾을 수 없거나 파트너 소유의 매장이 아닐 경우
      */
     @Transactional(readOnly = true)
-    public List<ReservationDto.ReservationInfoResponse> getPartnerReservations(
-            Long partnerId, Long storeId, LocalDate date, List<String> statusList
+    public ReservationDto.ReservationPageResponse getPartnerReservations(
+            Long partnerId, Long storeId, LocalDate date, List<String> statusList, String cursor, int size
     ) {
-        if (!partnerRepository.existsById(partnerId)) {
-            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        validatePageSize(size);
+
+        List<Long> storeIds = getPartnerStoreIds(partnerId, storeId);
+        List<ReservationStatus> statuses = ReservationStatus.parseAll(statusList);
+        PageRequest pageable = PageRequest.of(0, size + 1);
+
+        if (date != null) {
+            ReservationCursor position = ReservationCursor.decode(cursor, ReservationCursor.startOf(date));
+            List<ReservationInfoView> reservations = mergeStorePages(storeIds, size + 1, DAY_PAGE_ORDER,
+                    id -> reservationRepository.findStoreDayReservationPage(
+                            id, date, statuses, position.reservationTime(), position.reservationId(), pageable
+                    ));
+
+            return toPageResponse(reservations, size);
         }
 
-        List<ReservationStatus> statuses = getReservationStatuses(statusList);
-        List<Reservation> reservations;
+        ReservationCursor position = ReservationCursor.decode(cursor);
+        List<ReservationInfoView> reservations = mergeStorePages(storeIds, size + 1, PAGE_ORDER,
+                id -> reservationRepository.findStoreReservationPage(
+                        id, statuses, position.reservationDate(), position.reservationTime(), position.reservationId(),
+                        pageable
+                ));
+
+        return toPageResponse(reservations, size);
+    }
 
+    /**
+     * 예약 목록을 조회할 파트너의 매장 ID 목록 조회
+     * 매장을 지정한 경우 매장 엔티티 대신 소유 파트너 ID만 조회하여 소유 여부 확인
+     *
+     * @param partnerId 파트너 ID
+     * @param storeId   매장 ID (선택적)
+     * @return 매장 ID 목록
+     * @throws CustomException 파트너나 매장을 찾을 수 없거나 파트너 소유의 매장이 아닐 경우
+     */
+    private List<Long> getPartnerStoreIds(Long partnerId, Long storeId) {
         if (storeId != null) {
-            Store store = storeRepository.findById(storeId)
+            Long ownerId = storeRepository.findPartnerIdById(storeId)
                     .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
 
-            if (!store.getPartner().getId().equals(partnerId)) {
+            if (!ownerId.equals(partnerId)) {
                 throw new CustomException(ErrorCode.FORBIDDEN, "해당 매장에 대한 접근 권한이 없습니다.");
             }
 
-            if (date != null) {
-                if (statuses.isEmpty()) {
-                    reservations = reservationRepository.findByStoreIdAndReservationDateOrderByReservationTime(
-                            storeId, date
-                    );
-                } else {
-                    reservations = reservationRepository.findByStoreIdAndReservationDateAndStatusInOrderByReservationTime(
-                            storeId, date, statuses
-                    );
-                }
-            } else {
-                if (statuses.isEmpty()) {
-                    reservations = reservationRepository.findByStoreIdOrderByReservationDateDescReservationTimeDesc(
-                            storeId
-                    );
-                } else {
-                    reservations = reservationRepository.findByStoreIdAndStatusInOrderByReservationDateDescReservationTimeDesc(
-                            storeId, statuses
-                    );
-                }
-            }
-        } else {
-            List<Long> storeIds = storeRepository.findByPartnerId(partnerId).stream()
-                    .map(Store::getId)
-                    .collect(Collectors.toList());
-
-            if (date != null) {
-                if (statuses.isEmpty()) {
-                    reservations = reservationRepository.findByStoreIdInAndReservationDateOrderByStoreIdAscReservationTime(
-                            storeIds, date
-                    );
-                } else {
-                    reservations = reservationRepository.findByStoreIdInAndReservationDateAndStatusInOrderByStoreIdAscReservationTime(
-                            storeIds, date, statuses
-                    );
-                }
-            } else {
-                if (statuses.isEmpty()) {
-                    reservations = reservationRepository.findByStoreIdInOrderByReservationDateDescReservationTimeDesc(
-                            storeIds
-                    );
-                } else {
-                    reservations = reservationRepository.findByStoreIdInAndStatusInOrderByReservationDateDescReservationTimeDesc(
-                            storeIds, statuses
-                    );
-                }
-            }
+            return List.of(storeId);
+        }
+
+        List<Long> storeIds = storeRepository.findIdsByPartnerId(partnerId);
+        if (storeIds.isEmpty() && !partnerRepository.existsById(partnerId)) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        return storeIds;
+    }
+
+    /**
+     * 매장별 키셋 페이지 조회 결과 병합
+     * 각 매장의 결과가 같은 순서로 정렬되어 있으므로, 합쳐서 정렬한 앞쪽 limit개가 전체 매장 기준 페이지와 같음
+     *
+     * @param storeIds 매장 ID 목록
+     * @param limit    조회 개수
+     * @param order    페이지 정렬 순서
+     * @param query    매장 하나의 페이지 조회
+     * @return 병합된 예약 정보 목록 (최대 limit개)
+     */
+    private List<ReservationInfoView> mergeStorePages(
+            List<Long> storeIds, int limit, Comparator<ReservationInfoView> order,
+            Function<Long, List<ReservationInfoView>> query
+    ) {
+        if (storeIds.size() == 1) {
+            return query.apply(storeIds.get(0));
         }
 
-        return reservations.stream()
-                .map(this::converToReservationInfoResponse)
-                .collect(Collectors.toList());
+        return storeIds.stream()
+                .flatMap(id -> query.apply(id).stream())
+                .sorted(order)
+                .limit(limit)
+                .toList();
     }
 
     /**
-     * 문자열 상태 목록을 ReservationStatus 열거형 목록으로 변환
+     * 페이지 크기 검증
      *
-     * @param statusList 문자열 상태 목록
-     * @return ReservationStatus 목록
+     * @param size 페이지 크기
      */
-    private List<ReservationStatus> getReservationStatuses(List<String> statusList) {
-        if (statusList == null || statusList.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        return statusList.stream()
-                .map(status -> {
-                    try {
-                        return ReservationStatus.valueOf(status.toUpperCase());
-                    } catch (IllegalArgumentException e) {
-                        throw new CustomException(ErrorCode.INVALID_REQUEST, "유효하지 않은 예약 상태: " + status);
-                    }
-                })
-                .collect(Collectors.toList());
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST,
+                    String.format("페이지 크기는 1 이상 %d 이하여야 합니다.", MAX_PAGE_SIZE));
+        }
+    }
+
+    /**
+     * 페이지 크기보다 하나 더 조회한 결과로 예약 목록 페이지 응답 생성
+     *
+     * @param reservations 조회된 예약 정보 목록 (최대 size + 1개)
+     * @param size         페이지 크기
+     * @return 예약 목록 페이지 응답
+     */
+    private ReservationDto.ReservationPageResponse toPageResponse(List<ReservationInfoView> reservations, int size) {
+        boolean hasNext = reservations.size() > size;
+        List<ReservationInfoView> page = hasNext ? reservations.subList(0, size) : reservations;
+
+        return ReservationDto.ReservationPageResponse.builder()
+                .reservations(page.stream()
+                        .map(this::toReservationInfoResponse)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? ReservationCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
@@ -381,18 +506,52 @@ public class ReservationService {
                 .build();
     }
 
+    /**
+     * 예약 정보 프로젝션을 ReservationInfoResponse DTO로 변환
+     *
+     * @param reservation 예약 정보 프로젝션
+     * @return ReservationInfoResponse DTO
+     */
+    private ReservationDto.ReservationInfoResponse toReservationInfoResponse(ReservationInfoView reservation) {
+        return ReservationDto.ReservationInfoResponse.builder()
+                .reservationId(reservation.getReservationId())
+                .storeId(reservation.getStoreId())
+                .storeName(reservation.getStoreName())
+                .userId(reservation.getUserId())
+                .userName(reservation.getUserName())
+                .userPhone(reservation.getUserPhone())
+                .reservationDate(reservation.getReservationDate())
+                .reservationTime(reservation.getReservationTime())
+                .partySize(reservation.getPartySize())
+                .status(reservation.getStatus())
+                .arrivedAt(reservation.getArrivedAt())
+                .completedAt(reservation.getCompletedAt())
+                .specialRequests(reservation.getSpecialRequests())
+                .createdAt(reservation.getCreatedAt())
+                .updatedAt(reservation.getUpdatedAt())
+                .build();
+    }
+
     /**
      * 예약 상세 정보 조회 메서드
+     * 예약한 사용자 또는 매장 관리자(파트너)만 조회 가능하며, 소유 여부는 조회한 예약 정보로 판단
      *
      * @param reservationId 예약 ID
+     * @param viewerId      조회자 ID (사용자 또는 파트너)
+     * @param isPartner     파트너 여부
      * @return 예약 상세 정보
      */
     @Transactional(readOnly = true)
-    public ReservationDto.ReservationInfoResponse getReservationDetail(Long reservationId) {
-        Reservation reservation = reservationRepository.findById(reservationId)
+    public ReservationDto.ReservationInfoResponse getReservationDetail(Long reservationId, Long viewerId, boolean isPartner) {
+        ReservationInfoView reservation = reservationRepository.findInfoById(reservationId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
 
-        return converToReservationInfoResponse(reservation);
+        Long ownerId = isPartner ? reservation.getPartnerId() : reservation.getUserId();
+        if (!ownerId.equals(viewerId)) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
+
+        return toReservationInfoResponse(reservation);
     }
 
     /**
@@ -419,8 +578,11 @@ public class ReservationService {
             throw new CustomException(ErrorCode.RESERVATION_NOT_ALLOWED, "이미 방문 확인되었거나 완료된 예약은 취소할 수 없습니다.");
         }
 
+        ReservationStatus previousStatus = reservation.getStatus();
         reservation.setStatus(ReservationStatus.CANCELLED);
         Reservation cancelledReservation = reservationRepository.save(reservation);
+        availabilityIndex.onStatusChanged(cancelledReservation, previousStatus, ReservationStatus.CANCELLED);
+        dailyStatsRecorder.onStatusChanged(cancelledReservation, previousStatus, ReservationStatus.CANCELLED);
 
         return converToReservationInfoResponse(cancelledReservation);
     }
@@ -469,6 +631,7 @@ public class ReservationService {
         reservation.setCompletedAt(LocalDateTime.now());
 
         Reservation completedReservation = reservationRepository.save(reservation);
+        dailyStatsRecorder.onStatusChanged(completedReservation, ReservationStatus.ARRIVED, ReservationStatus.COMPLETED);
 
         return converToReservationInfoResponse(completedReservation);
     }
@@ -512,6 +675,8 @@ public class ReservationService {
         }
 
         Reservation processedReservation = reservationRepository.save(reservation);
+        availabilityIndex.onStatusChanged(processedReservation, ReservationStatus.PENDING, processedReservation.getStatus());
+        dailyStatsRecorder.onStatusChanged(processedReservation, ReservationStatus.PENDING, processedReservation.getStatus());
 
         notificationService.createReservationStatusNotification(
                 processedReservation.getUser().getId(),
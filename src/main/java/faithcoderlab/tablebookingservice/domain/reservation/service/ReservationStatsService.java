@@ -1,9 +1,15 @@
 package faithcoderlab.tablebookingservice.domain.reservation.service;
 
+import faithcoderlab.tablebookingservice.domain.reservation.config.ReservationConfig;
+import faithcoderlab.tablebookingservice.domain.reservation.config.ReservationSlotGrid;
 import faithcoderlab.tablebookingservice.domain.reservation.dto.ReservationStatsDto;
-import faithcoderlab.tablebookingservice.domain.reservation.entity.Reservation;
 import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationDailyStatsRepository;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationDailyStatsView;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationDateCountView;
 import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationRepository;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationStatusCountView;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationTimeCountView;
 import faithcoderlab.tablebookingservice.domain.store.entity.Store;
 import faithcoderlab.tablebookingservice.domain.store.repository.StoreRepository;
 import faithcoderlab.tablebookingservice.global.exception.CustomException;
@@ -15,22 +21,29 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 예약 통계 서비스 클래스
  * 예약 데이터를 분석하여 다양한 통계 정보를 제공
+ * 일별 예약 통계 테이블을 집계하며, 애플리케이션 시작 후 통계 테이블 재계산이 끝나기 전에는 원본 예약 데이터를 직접 집계
  */
 @Service
 @RequiredArgsConstructor
 public class ReservationStatsService {
 
+    private static final DateTimeFormatter TIME_SLOT_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final ReservationDailyStatsRepository dailyStatsRepository;
     private final ReservationRepository reservationRepository;
+    private final ReservationDailyStatsRecorder dailyStatsRecorder;
     private final StoreRepository storeRepository;
+    private final ReservationConfig reservationConfig;
 
     /**
      * 기간별 예약 통계 계산 메서드
@@ -45,24 +58,23 @@ public class ReservationStatsService {
         validateDateRange(startDate, endDate);
 
         Store store = getStoreById(storeId);
-        List<Reservation> reservations = getReservationsForPeriod(storeId, startDate, endDate);
+        List<ReservationStatusCountView> statusCounts = getStatusCounts(storeId, startDate, endDate);
 
-        long totalReservations = reservations.size();
+        long totalReservations = sumCounts(statusCounts, ReservationStatus.values());
 
-        long confirmedReservations = countByStatus(reservations, ReservationStatus.CONFIRMED, ReservationStatus.ARRIVED, ReservationStatus.COMPLETED);
-        long cancelledReservations = countByStatus(reservations, ReservationStatus.CANCELLED, ReservationStatus.REJECTED);
-        long noShowReservations = countByStatus(reservations, ReservationStatus.NO_SHOW);
+        long confirmedReservations = sumCounts(statusCounts, ReservationStatus.CONFIRMED, ReservationStatus.ARRIVED, ReservationStatus.COMPLETED);
+        long cancelledReservations = sumCounts(statusCounts, ReservationStatus.CANCELLED, ReservationStatus.REJECTED);
+        long noShowReservations = sumCounts(statusCounts, ReservationStatus.NO_SHOW);
 
-        double averagePartySize = reservations.stream()
-                .mapToInt(Reservation::getPartySize)
-                .average()
-                .orElse(0);
+        long partySizeSum = statusCounts.stream()
+                .mapToLong(view -> view.getPartySizeSum() != null ? view.getPartySizeSum() : 0)
+                .sum();
+        double averagePartySize = totalReservations > 0 ? (double) partySizeSum / totalReservations : 0;
 
-        Map<String, Long> dailyReservationCounts = reservations.stream()
-                .collect(Collectors.groupingBy(
-                        reservation -> reservation.getReservationDate().format(DateTimeFormatter.ISO_DATE),
-                        Collectors.counting()
-                ));
+        Map<String, Long> dailyReservationCounts = new HashMap<>();
+        for (ReservationDateCountView view : getDateCounts(storeId, startDate, endDate)) {
+            dailyReservationCounts.put(view.getReservationDate().format(DateTimeFormatter.ISO_DATE), view.getReservationCount());
+        }
 
         return ReservationStatsDto.PeriodStatsResponse.builder()
                 .storeId(storeId)
@@ -91,20 +103,19 @@ public class ReservationStatsService {
         validateDateRange(startDate, endDate);
 
         Store store = getStoreById(storeId);
-        List<Reservation> reservations = getReservationsForPeriod(storeId, startDate, endDate);
+        List<ReservationTimeCountView> timeCounts = getTimeCounts(storeId, startDate, endDate);
 
-        Map<String, Long> timeSlotDistribution = reservations.stream()
-                .collect(Collectors.groupingBy(
-                        reservation -> reservation.getReservationTime().format(DateTimeFormatter.ofPattern("HH:mm")),
-                        Collectors.counting()
-                ));
+        Map<String, Long> timeSlotDistribution = new HashMap<>();
+        for (ReservationTimeCountView view : timeCounts) {
+            timeSlotDistribution.put(view.getReservationTime().format(TIME_SLOT_FORMATTER), view.getReservationCount());
+        }
 
-        List<ReservationStatsDto.TimeSlotData> mostPopularTimeSlots = timeSlotDistribution.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+        List<ReservationStatsDto.TimeSlotData> mostPopularTimeSlots = timeCounts.stream()
+                .sorted(Comparator.comparing(ReservationTimeCountView::getReservationCount).reversed())
                 .limit(5)
-                .map(entry -> ReservationStatsDto.TimeSlotData.builder()
-                        .timeSlot(LocalTime.parse(entry.getKey(), DateTimeFormatter.ofPattern("HH:mm")))
-                        .count(entry.getValue())
+                .map(view -> ReservationStatsDto.TimeSlotData.builder()
+                        .timeSlot(view.getReservationTime())
+                        .count(view.getReservationCount())
                         .build())
                 .toList();
 
@@ -131,26 +142,25 @@ public class ReservationStatsService {
         validateDateRange(startDate, endDate);
 
         Store store = getStoreById(storeId);
-        List<Reservation> reservations = getReservationsForPeriod(storeId, startDate, endDate);
+        List<ReservationStatusCountView> statusCounts = getStatusCounts(storeId, startDate, endDate);
 
-        long totalReservations = reservations.size();
+        long totalReservations = sumCounts(statusCounts, ReservationStatus.values());
         if (totalReservations == 0) {
             return createEmptyStatusStats(store, startDate, endDate);
         }
 
-        Map<String, Long> statusDistribution = reservations.stream()
-                .collect(Collectors.groupingBy(
-                        reservation -> reservation.getStatus().name(),
-                        Collectors.counting()
-                ));
+        Map<String, Long> statusDistribution = new HashMap<>();
+        for (ReservationStatusCountView view : statusCounts) {
+            statusDistribution.put(view.getStatus().name(), view.getReservationCount());
+        }
 
-        double confirmationRate = calculateRate(reservations, totalReservations,
+        double confirmationRate = calculateRate(statusCounts, totalReservations,
                 ReservationStatus.CONFIRMED, ReservationStatus.ARRIVED, ReservationStatus.COMPLETED);
 
-        double cancellationRate = calculateRate(reservations, totalReservations,
+        double cancellationRate = calculateRate(statusCounts, totalReservations,
                 ReservationStatus.CANCELLED, ReservationStatus.REJECTED);
 
-        double noShowRate = calculateRate(reservations, totalReservations,
+        double noShowRate = calculateRate(statusCounts, totalReservations,
                 ReservationStatus.NO_SHOW);
 
         return ReservationStatsDto.StatusStatsResponse.builder()
@@ -166,27 +176,207 @@ public class ReservationStatsService {
     }
 
     /**
-     * 매장 ID로 매장 정보 조회
+     * 통합 예약 통계 계산 메서드
+     * 일별 예약 통계 행을 한 번만 순회하며 상태 순번, 슬롯 순번, 날짜 오프셋으로 인덱싱한 배열에 누적한 뒤
+     * 기간별, 시간대별, 상태별 통계를 함께 생성
      *
-     * @param storeId 매장 ID
-     * @return 매장 정보
-     * @throws CustomException 매장을 찾을 수 없을 경우
+     * @param storeId   매장 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 통합 예약 통계 정보
      */
-    private Store getStoreById(Long storeId) {
-        return storeRepository.findById(storeId)
-                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+    @Transactional(readOnly = true)
+    public ReservationStatsDto.SummaryStatsResponse getSummaryStats(Long storeId, LocalDate startDate, LocalDate endDate) {
+        validateDateRange(startDate, endDate);
+
+        Store store = getStoreById(storeId);
+        ReservationSlotGrid slotGrid = reservationConfig.getSlotGrid();
+
+        long startEpochDay = startDate.toEpochDay();
+        long[] statusCounts = new long[ReservationStatus.values().length];
+        long[] slotCounts = new long[slotGrid.size()];
+        long[] dayCounts = new long[(int) (endDate.toEpochDay() - startEpochDay) + 1];
+        Map<LocalTime, Long> offGridCounts = new HashMap<>();
+        long partySizeSum = 0;
+
+        for (ReservationDailyStatsView row : getSlotAndStatusCounts(storeId, startDate, endDate)) {
+            long count = row.getReservationCount();
+            if (count == 0) {
+                continue;
+            }
+
+            statusCounts[row.getStatus().ordinal()] += count;
+            dayCounts[(int) (row.getReservationDate().toEpochDay() - startEpochDay)] += count;
+            partySizeSum += row.getPartySizeSum();
+
+            int slot = slotGrid.ordinalOf(row.getReservationTime());
+            if (slot >= 0) {
+                slotCounts[slot] += count;
+            } else {
+                offGridCounts.merge(row.getReservationTime(), count, Long::sum);
+            }
+        }
+
+        long totalReservations = 0;
+        for (long count : statusCounts) {
+            totalReservations += count;
+        }
+
+        long confirmedReservations = statusCounts[ReservationStatus.CONFIRMED.ordinal()]
+                + statusCounts[ReservationStatus.ARRIVED.ordinal()]
+                + statusCounts[ReservationStatus.COMPLETED.ordinal()];
+        long cancelledReservations = statusCounts[ReservationStatus.CANCELLED.ordinal()]
+                + statusCounts[ReservationStatus.REJECTED.ordinal()];
+        long noShowReservations = statusCounts[ReservationStatus.NO_SHOW.ordinal()];
+
+        Map<String, Long> dailyReservationCounts = new HashMap<>();
+        for (int day = 0; day < dayCounts.length; day++) {
+            if (dayCounts[day] > 0) {
+                dailyReservationCounts.put(startDate.plusDays(day).format(DateTimeFormatter.ISO_DATE), dayCounts[day]);
+            }
+        }
+
+        List<ReservationStatsDto.TimeSlotData> timeSlots = new ArrayList<>();
+        for (int slot = 0; slot < slotCounts.length; slot++) {
+            if (slotCounts[slot] > 0) {
+                timeSlots.add(ReservationStatsDto.TimeSlotData.builder()
+                        .timeSlot(slotGrid.timeAt(slot))
+                        .count(slotCounts[slot])
+                        .build());
+            }
+        }
+        offGridCounts.forEach((time, count) -> timeSlots.add(ReservationStatsDto.TimeSlotData.builder()
+                .timeSlot(time)
+                .count(count)
+                .build()));
+
+        Map<String, Long> timeSlotDistribution = new HashMap<>();
+        for (ReservationStatsDto.TimeSlotData timeSlot : timeSlots) {
+            timeSlotDistribution.put(timeSlot.getTimeSlot().format(TIME_SLOT_FORMATTER), timeSlot.getCount());
+        }
+
+        List<ReservationStatsDto.TimeSlotData> mostPopularTimeSlots = timeSlots.stream()
+                .sorted(Comparator.comparing(ReservationStatsDto.TimeSlotData::getCount).reversed())
+                .limit(5)
+                .toList();
+
+        Map<String, Long> statusDistribution = new HashMap<>();
+        for (ReservationStatus status : ReservationStatus.values()) {
+            if (statusCounts[status.ordinal()] > 0) {
+                statusDistribution.put(status.name(), statusCounts[status.ordinal()]);
+            }
+        }
+
+        ReservationStatsDto.PeriodStatsResponse periodStats = ReservationStatsDto.PeriodStatsResponse.builder()
+                .storeId(storeId)
+                .storeName(store.getName())
+                .startDate(startDate)
+                .endDate(endDate)
+                .totalReservations(totalReservations)
+                .confirmedReservations(confirmedReservations)
+                .cancelledReservations(cancelledReservations)
+                .noShowReservations(noShowReservations)
+                .averagePartySize(totalReservations > 0 ? (double) partySizeSum / totalReservations : 0)
+                .dailyReservationCounts(dailyReservationCounts)
+                .build();
+
+        ReservationStatsDto.TimeSlotStatsResponse timeSlotStats = ReservationStatsDto.TimeSlotStatsResponse.builder()
+                .storeId(storeId)
+                .storeName(store.getName())
+                .startDate(startDate)
+                .endDate(endDate)
+                .timeSlotDistribution(timeSlotDistribution)
+                .mostPopularTimeSlots(mostPopularTimeSlots)
+                .build();
+
+        ReservationStatsDto.StatusStatsResponse statusStats = ReservationStatsDto.StatusStatsResponse.builder()
+                .storeId(storeId)
+                .storeName(store.getName())
+                .startDate(startDate)
+                .endDate(endDate)
+                .statusDistribution(statusDistribution)
+                .confirmationRate(toRate(confirmedReservations, totalReservations))
+                .cancellationRate(toRate(cancelledReservations, totalReservations))
+                .noShowRate(toRate(noShowReservations, totalReservations))
+                .build();
+
+        return ReservationStatsDto.SummaryStatsResponse.builder()
+                .storeId(storeId)
+                .storeName(store.getName())
+                .startDate(startDate)
+                .endDate(endDate)
+                .periodStats(periodStats)
+                .timeSlotStats(timeSlotStats)
+                .statusStats(statusStats)
+                .build();
+    }
+
+    /**
+     * 상태별 예약 수와 인원 수 합계 집계
+     *
+     * @param storeId   매장 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 상태별 예약 집계 목록
+     */
+    private List<ReservationStatusCountView> getStatusCounts(Long storeId, LocalDate startDate, LocalDate endDate) {
+        return dailyStatsRecorder.isBackfilled()
+                ? dailyStatsRepository.sumByStatusForPeriod(storeId, startDate, endDate)
+                : reservationRepository.countByStatusForPeriod(storeId, startDate, endDate);
+    }
+
+    /**
+     * 날짜별 예약 수 집계
+     *
+     * @param storeId   매장 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 날짜별 예약 집계 목록
+     */
+    private List<ReservationDateCountView> getDateCounts(Long storeId, LocalDate startDate, LocalDate endDate) {
+        return dailyStatsRecorder.isBackfilled()
+                ? dailyStatsRepository.sumByDateForPeriod(storeId, startDate, endDate)
+                : reservationRepository.countByDateForPeriod(storeId, startDate, endDate);
+    }
+
+    /**
+     * 시간대별 예약 수 집계
+     *
+     * @param storeId   매장 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 시간대별 예약 집계 목록
+     */
+    private List<ReservationTimeCountView> getTimeCounts(Long storeId, LocalDate startDate, LocalDate endDate) {
+        return dailyStatsRecorder.isBackfilled()
+                ? dailyStatsRepository.sumByTimeForPeriod(storeId, startDate, endDate)
+                : reservationRepository.countByTimeForPeriod(storeId, startDate, endDate);
     }
 
     /**
-     * 특정 기간의 매장 예약 목록 조회
+     * 날짜/시간/상태별 예약 수와 인원 수 합계 집계
      *
      * @param storeId   매장 ID
      * @param startDate 시작 날짜
      * @param endDate   종료 날짜
-     * @return 예약 목록
+     * @return 날짜/시간/상태별 예약 집계 목록
      */
-    private List<Reservation> getReservationsForPeriod(Long storeId, LocalDate startDate, LocalDate endDate) {
-       return reservationRepository.findByStoreIdAndReservationDateBetween(storeId, startDate, endDate);
+    private List<ReservationDailyStatsView> getSlotAndStatusCounts(Long storeId, LocalDate startDate, LocalDate endDate) {
+        return dailyStatsRecorder.isBackfilled()
+                ? dailyStatsRepository.findByStoreIdAndReservationDateBetween(storeId, startDate, endDate)
+                : reservationRepository.countBySlotAndStatusForPeriod(storeId, startDate, endDate);
+    }
+
+    /**
+     * 매장 ID로 매장 정보 조회
+     *
+     * @param storeId 매장 ID
+     * @return 매장 정보
+     * @throws CustomException 매장을 찾을 수 없을 경우
+     */
+    private Store getStoreById(Long storeId) {
+        return storeRepository.findById(storeId)
+                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
     }
 
     /**
@@ -215,33 +405,49 @@ public class ReservationStatsService {
     }
 
     /**
-     * 특정 상태의 예약 수 카운트
+     * 특정 상태의 예약 수 합산
      *
-     * @param reservations 예약 목록
-     * @param statuses     카운트할 예약 상태 목록
+     * @param statusCounts 상태별 예약 집계 목록
+     * @param statuses     합산할 예약 상태 목록
      * @return 해당 상태의 예약 수
      */
-    private long countByStatus(List<Reservation> reservations, ReservationStatus... statuses) {
+    private long sumCounts(List<ReservationStatusCountView> statusCounts, ReservationStatus... statuses) {
         List<ReservationStatus> statusList = Arrays.asList(statuses);
-        return reservations.stream()
-                .filter(reservation -> statusList.contains(reservation.getStatus()))
-                .count();
+        return statusCounts.stream()
+                .filter(view -> statusList.contains(view.getStatus()))
+                .mapToLong(ReservationStatusCountView::getReservationCount)
+                .sum();
     }
 
     /**
      * 특정 상태의 예약 비율 계산
      *
-     * @param reservations      예약 목록
+     * @param statusCounts      상태별 예약 집계 목록
      * @param totalReservations 총 예약 수
      * @param statuses          계산할 예약 상태 목록
      * @return 해당 상태의 예약 비율
      */
-    private double calculateRate(List<Reservation> reservations, long totalReservations, ReservationStatus... statuses) {
+    private double calculateRate(List<ReservationStatusCountView> statusCounts, long totalReservations, ReservationStatus... statuses) {
+        if (totalReservations == 0) {
+            return 0.0;
+        }
+
+        long count = sumCounts(statusCounts, statuses);
+        return toRate(count, totalReservations);
+    }
+
+    /**
+     * 예약 수를 비율(%)로 변환
+     *
+     * @param count             예약 수
+     * @param totalReservations 총 예약 수
+     * @return 비율
+     */
+    private double toRate(long count, long totalReservations) {
         if (totalReservations == 0) {
             return 0.0;
         }
 
-        long count = countByStatus(reservations, statuses);
         return (double) count / totalReservations * 100;
     }
 
@@ -1,10 +1,13 @@
 package faithcoderlab.tablebookingservice.domain.review.repository;
 
 import faithcoderlab.tablebookingservice.domain.review.entity.Review;
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreRatingView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,4 +57,47 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      * @return 리뷰 수
      */
     long countByStoreIdAndActive(Long storeId, boolean active);
+
+    /**
+     * 매장 ID별 활성 리뷰 평점 합계 및 리뷰 수 조회
+     *
+     * @param storeId 매장 ID
+     * @return 평점 합계 및 리뷰 수
+     */
+    @Query("SELECT COALESCE(SUM(r.rating), 0) AS ratingSum, COUNT(r) AS reviewCount " +
+            "FROM Review r WHERE r.store.id = :storeId AND r.active = true")
+    StoreRatingView sumActiveRatingByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * 리뷰 수정 (조회 시점의 평점에서 바뀌지 않은 활성 리뷰만)
+     * 같은 리뷰에 대한 동시 수정/삭제 중 하나만 반영되도록 조건부로 변경
+     *
+     * @param reviewId       리뷰 ID
+     * @param expectedRating 조회 시점의 평점
+     * @param rating         변경할 평점
+     * @param content        변경할 내용
+     * @param updatedAt      수정 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Review r SET r.rating = :rating, r.content = :content, r.updatedAt = :updatedAt " +
+            "WHERE r.id = :reviewId AND r.active = true AND r.rating = :expectedRating")
+    int updateIfUnchanged(
+            @Param("reviewId") Long reviewId,
+            @Param("expectedRating") Integer expectedRating,
+            @Param("rating") Integer rating,
+            @Param("content") String content,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    /**
+     * 리뷰 비활성화 (활성 리뷰만)
+     * 같은 리뷰에 대한 동시 삭제 중 하나만 반영되도록 조건부로 변경
+     *
+     * @param reviewId 리뷰 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Review r SET r.active = false WHERE r.id = :reviewId AND r.active = true")
+    int deactivate(@Param("reviewId") Long reviewId);
 }
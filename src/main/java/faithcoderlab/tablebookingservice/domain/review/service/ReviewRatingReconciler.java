@@ -0,0 +1,81 @@
+package faithcoderlab.tablebookingservice.domain.review.service;
+
+import faithcoderlab.tablebookingservice.domain.review.repository.ReviewRepository;
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreRatingView;
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 매장 평점 집계 보정 클래스
+ * 매장에 누적된 평점 합계와 리뷰 수를 활성 리뷰 기준으로 다시 계산하여 누적 오차를 보정
+ * 매장별로 별도 트랜잭션에서 매장 행을 먼저 잠근 뒤 집계하므로,
+ * 진행 중인 리뷰 작성/수정/삭제의 평점 증감은 보정 전 또는 보정 후에만 반영되어 덮어써지지 않음
+ */
+@Slf4j
+@Component
+public class ReviewRatingReconciler {
+
+    private final StoreRepository storeRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReviewRatingReconciler(
+            StoreRepository storeRepository,
+            ReviewRepository reviewRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.storeRepository = storeRepository;
+        this.reviewRepository = reviewRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 애플리케이션 시작 시 보정 (집계 컬럼 추가 이전의 리뷰 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * 매일 새벽 보정
+     */
+    @Scheduled(cron = "${review.rating.reconcile-cron:0 30 3 * * *}")
+    public void reconcileNightly() {
+        reconcile();
+    }
+
+    private void reconcile() {
+        int stores = 0;
+        for (Long storeId : storeRepository.findAllIds()) {
+            Boolean reconciled = transactionTemplate.execute(status -> reconcileStore(storeId));
+            if (Boolean.TRUE.equals(reconciled)) {
+                stores++;
+            }
+        }
+        log.info("Store rating aggregates reconciled: {} stores", stores);
+    }
+
+    /**
+     * 매장 하나의 평점 집계 재계산
+     * 매장 행 잠금이 트랜잭션의 첫 조회이므로, 이후 집계 조회는 잠금 획득 시점 이후에 커밋된 리뷰까지 반영
+     *
+     * @param storeId 매장 ID
+     * @return 보정 여부 (그 사이 매장이 삭제된 경우 false)
+     */
+    private boolean reconcileStore(Long storeId) {
+        if (storeRepository.lockById(storeId).isEmpty()) {
+            return false;
+        }
+
+        StoreRatingView rating = reviewRepository.sumActiveRatingByStoreId(storeId);
+        storeRepository.overwriteRating(storeId, rating.getRatingSum(), rating.getReviewCount());
+        return true;
+    }
+}
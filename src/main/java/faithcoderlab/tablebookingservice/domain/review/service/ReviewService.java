@@ -7,13 +7,18 @@ import faithcoderlab.tablebookingservice.domain.review.dto.ReviewDto;
 import faithcoderlab.tablebookingservice.domain.review.entity.Review;
 import faithcoderlab.tablebookingservice.domain.review.repository.ReviewRepository;
 import faithcoderlab.tablebookingservice.domain.store.entity.Store;
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreRatingView;
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreRepository;
+import faithcoderlab.tablebookingservice.domain.store.service.StoreMetricsChangedEvent;
 import faithcoderlab.tablebookingservice.domain.user.entity.User;
 import faithcoderlab.tablebookingservice.global.exception.CustomException;
 import faithcoderlab.tablebookingservice.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,6 +32,8 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final ReservationRepository reservationRepository;
+    private final StoreRepository storeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 리뷰 생성 메서드
@@ -65,7 +72,11 @@ public class ReviewService {
                 .active(true)
                 .build();
 
+        // 리뷰 INSERT는 외래 키 검사로 매장 행에 공유 잠금을 걸므로, 매장 행을 먼저 배타적으로 잠가
+        // 같은 매장에 동시에 작성되는 리뷰끼리 공유 잠금을 쥔 채 서로의 평점 갱신을 기다리는 교착 상태를 방지
+        storeRepository.adjustRating(store.getId(), review.getRating(), 1);
         Review savedReview = reviewRepository.save(review);
+        eventPublisher.publishEvent(new StoreMetricsChangedEvent(store.getId()));
 
         return convertToResponseDto(savedReview);
     }
@@ -121,6 +132,7 @@ public class ReviewService {
     /**
      * 리뷰 수정 메서드
      * 리뷰 작성자만 수정 가능
+     * 조회한 평점이 그대로인 경우에만 수정하고, 그 평점과의 차이만큼 매장 평점 합계를 보정
      *
      * @param reviewId 리뷰 ID
      * @param userId   사용자 ID
@@ -140,17 +152,30 @@ public class ReviewService {
             throw new CustomException(ErrorCode.NOT_REVIEW_OWNER);
         }
 
-        review.setRating(request.getRating());
-        review.setContent(request.getContent());
+        ReviewDto.Response response = convertToResponseDto(review);
+        LocalDateTime updatedAt = LocalDateTime.now();
 
-        Review updatedReview = reviewRepository.save(review);
+        int updated = reviewRepository.updateIfUnchanged(
+                reviewId, review.getRating(), request.getRating(), request.getContent(), updatedAt
+        );
+        if (updated == 0) {
+            throw new CustomException(ErrorCode.REVIEW_UPDATE_CONFLICT);
+        }
+
+        Long storeId = review.getStore().getId();
+        storeRepository.adjustRating(storeId, request.getRating() - review.getRating(), 0);
+        eventPublisher.publishEvent(new StoreMetricsChangedEvent(storeId));
 
-        return convertToResponseDto(updatedReview);
+        response.setRating(request.getRating());
+        response.setContent(request.getContent());
+        response.setUpdatedAt(updatedAt);
+        return response;
     }
 
     /**
      * 리뷰 삭제 메서드
      * 리뷰 작성자 또는 매장 관리자(파트너)만 삭제 가능
+     * 활성 상태에서 비활성으로 바꾼 요청만 매장 평점 합계에서 제외하므로 중복 삭제 시 한 번만 반영
      *
      * @param reviewId  리뷰 ID
      * @param userId    사용자 ID
@@ -173,8 +198,12 @@ public class ReviewService {
             throw new CustomException(ErrorCode.INVALID_REVIEW_PERMISSION);
         }
 
-        review.setActive(false);
-        reviewRepository.save(review);
+        if (reviewRepository.deactivate(reviewId) == 0) {
+            throw new CustomException(ErrorCode.REVIEW_NOT_FOUND);
+        }
+
+        storeRepository.adjustRating(review.getStore().getId(), -review.getRating(), -1);
+        eventPublisher.publishEvent(new StoreMetricsChangedEvent(review.getStore().getId()));
 
         return true;
     }
@@ -202,13 +231,17 @@ public class ReviewService {
 
     /**
      * 매장 평균 평점 조회 메서드
+     * 매장에 누적된 평점 합계와 리뷰 수로 계산
      *
      * @param storeId 매장 ID
-     * @return 평균 평점
+     * @return 평균 평점 (리뷰가 없으면 null)
      */
     @Transactional(readOnly = true)
     public Double getAverageRatingByStoreId(Long storeId) {
-        return reviewRepository.getAverageRatingByStoreId(storeId);
+        return storeRepository.findRatingById(storeId)
+                .filter(rating -> rating.getReviewCount() > 0)
+                .map(rating -> (double) rating.getRatingSum() / rating.getReviewCount())
+                .orElse(null);
     }
 
     /**
@@ -219,7 +252,9 @@ public class ReviewService {
      */
     @Transactional(readOnly = true)
     public long getReviewCountByStoreId(Long storeId) {
-        return reviewRepository.countByStoreIdAndActive(storeId, true);
+        return storeRepository.findRatingById(storeId)
+                .map(StoreRatingView::getReviewCount)
+                .orElse(0L);
     }
 
 
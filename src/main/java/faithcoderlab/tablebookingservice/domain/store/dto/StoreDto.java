@@ -78,6 +78,11 @@ public class StoreDto {
 
         private Double latitude;
         private Double longitude;
+
+        /**
+         * 기준 위치로부터의 거리 (km, 거리순 조회 시에만 포함)
+         */
+        private Double distanceKm;
     }
 
     /**
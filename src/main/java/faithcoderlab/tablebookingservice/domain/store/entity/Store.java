@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
  * 파트너가 등록한 매장 정보를 저장하는 엔티티
  */
 @Entity
-@Table(name = "stores")
+@Table(
+        name = "stores",
+        indexes = @Index(name = "idx_stores_location", columnList = "latitude, longitude")
+)
 @Data
 @Builder
 @NoArgsConstructor
@@ -60,4 +63,18 @@ public class Store {
 
     @Column
     private Double longitude;
+
+    /**
+     * 활성 리뷰 평점 합계
+     * 리뷰 변경 시 원자적 증감 쿼리로만 갱신하므로 엔티티 저장 시에는 반영하지 않음
+     */
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long ratingSum;
+
+    /**
+     * 활성 리뷰 수
+     * 리뷰 변경 시 원자적 증감 쿼리로만 갱신하므로 엔티티 저장 시에는 반영하지 않음
+     */
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long reviewCount;
 }
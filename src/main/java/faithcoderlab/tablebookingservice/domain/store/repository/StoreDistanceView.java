@@ -0,0 +1,12 @@
+package faithcoderlab.tablebookingservice.domain.store.repository;
+
+/**
+ * 매장 거리 프로젝션 인터페이스
+ * 매장 ID와 기준 위치로부터의 거리(km)
+ */
+public interface StoreDistanceView {
+
+    Long getStoreId();
+
+    Double getDistanceKm();
+}
@@ -0,0 +1,14 @@
+package faithcoderlab.tablebookingservice.domain.store.repository;
+
+/**
+ * 매장 위치 프로젝션 인터페이스
+ * 매장 ID와 위도, 경도만 조회
+ */
+public interface StoreLocationView {
+
+    Long getStoreId();
+
+    Double getLatitude();
+
+    Double getLongitude();
+}
@@ -0,0 +1,30 @@
+package faithcoderlab.tablebookingservice.domain.store.repository;
+
+/**
+ * 매장 지표 프로젝션 인터페이스
+ * 매장 기본 정보와 평점 합계, 리뷰 수, 예약 수를 함께 조회
+ */
+public interface StoreMetricsView {
+
+    Long getStoreId();
+
+    String getName();
+
+    String getAddress();
+
+    String getDescription();
+
+    String getPhoneNumber();
+
+    String getBusinessHours();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    Long getRatingSum();
+
+    Long getReviewCount();
+
+    Long getReservationCount();
+}
@@ -0,0 +1,11 @@
+package faithcoderlab.tablebookingservice.domain.store.repository;
+
+/**
+ * 매장 평점 집계 프로젝션 인터페이스
+ */
+public interface StoreRatingView {
+
+    Long getRatingSum();
+
+    Long getReviewCount();
+}
@@ -1,10 +1,13 @@
 package faithcoderlab.tablebookingservice.domain.store.repository;
 
 import faithcoderlab.tablebookingservice.domain.store.entity.Store;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,8 +41,165 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
      */
     List<Store> findByPartnerId(Long partnerId);
 
+    /**
+     * 파트너 ID로 매장 ID 목록 조회
+     *
+     * @param partnerId 파트너 ID
+     * @return 매장 ID 목록
+     */
+    @Query("SELECT s.id FROM Store s WHERE s.partner.id = :partnerId ORDER BY s.id")
+    List<Long> findIdsByPartnerId(@Param("partnerId") Long partnerId);
+
+    /**
+     * 매장 ID로 소유 파트너 ID 조회 (매장 엔티티를 로딩하지 않는 소유 여부 확인용)
+     *
+     * @param storeId 매장 ID
+     * @return 파트너 ID (매장이 없으면 빈 값)
+     */
+    @Query("SELECT s.partner.id FROM Store s WHERE s.id = :storeId")
+    Optional<Long> findPartnerIdById(@Param("storeId") Long storeId);
+
     List<Store> findAllByActiveOrderByNameAsc(boolean active);
 
+    /**
+     * 활성 여부별 매장 목록을 이름순으로 최대 개수만큼 조회
+     *
+     * @param active   활성 여부
+     * @param pageable 조회 범위
+     * @return 매장 목록
+     */
+    List<Store> findAllByActiveOrderByNameAsc(boolean active, Pageable pageable);
+
     // TODO: rating에 따른 정렬
     List<Store> findAllByActive(boolean active);
+
+    /**
+     * 활성 매장 전체의 평균 평점, 리뷰 수, 예약 수를 한 번의 쿼리로 조회
+     *
+     * @return 매장 지표 목록
+     */
+    @Query("SELECT s.id AS storeId, s.name AS name, s.address AS address, s.description AS description, " +
+            "s.phoneNumber AS phoneNumber, s.businessHours AS businessHours, " +
+            "s.latitude AS latitude, s.longitude AS longitude, " +
+            "s.ratingSum AS ratingSum, s.reviewCount AS reviewCount, " +
+            "(SELECT COUNT(res) FROM Reservation res WHERE res.store = s) AS reservationCount " +
+            "FROM Store s " +
+            "WHERE s.active = true")
+    List<StoreMetricsView> findActiveStoreMetrics();
+
+    /**
+     * 위치 정보가 있는 활성 매장의 위치 조회
+     *
+     * @return 매장 위치 목록
+     */
+    @Query("SELECT s.id AS storeId, s.latitude AS latitude, s.longitude AS longitude " +
+            "FROM Store s " +
+            "WHERE s.active = true AND s.latitude IS NOT NULL AND s.longitude IS NOT NULL")
+    List<StoreLocationView> findActiveStoreLocations();
+
+    /**
+     * 경계 상자 내 활성 매장을 기준 위치로부터의 거리순으로 조회
+     * 위도/경도 인덱스로 경계 상자 안의 후보만 거른 뒤 Haversine 거리로 반경 필터링 및 정렬
+     *
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     * @param minLat    경계 상자 최소 위도
+     * @param maxLat    경계 상자 최대 위도
+     * @param minLng    경계 상자 최소 경도
+     * @param maxLng    경계 상자 최대 경도
+     * @param radiusKm  검색 반경 (km)
+     * @param limit     최대 조회 개수
+     * @return 매장 거리 목록
+     */
+    @Query(value = "SELECT s.id AS storeId, " +
+            "(6371 * 2 * ASIN(SQRT(" +
+            "POW(SIN(RADIANS(s.latitude - :latitude) / 2), 2) + " +
+            "COS(RADIANS(:latitude)) * COS(RADIANS(s.latitude)) * POW(SIN(RADIANS(s.longitude - :longitude) / 2), 2)" +
+            "))) AS distanceKm " +
+            "FROM stores s " +
+            "WHERE s.active = true " +
+            "AND s.latitude BETWEEN :minLat AND :maxLat " +
+            "AND s.longitude BETWEEN :minLng AND :maxLng " +
+            "HAVING distanceKm <= :radiusKm " +
+            "ORDER BY distanceKm " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<StoreDistanceView> findNearestInBoundingBox(
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng,
+            @Param("maxLng") double maxLng,
+            @Param("radiusKm") double radiusKm,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 매장 ID 목록으로 매장 목록 조회 (파트너 정보 포함)
+     *
+     * @param storeIds 매장 ID 목록
+     * @return 매장 목록
+     */
+    @Query("SELECT s FROM Store s JOIN FETCH s.partner WHERE s.id IN :storeIds")
+    List<Store> findAllWithPartnerByIdIn(@Param("storeIds") Collection<Long> storeIds);
+
+    /**
+     * 매장 평점 집계 조회
+     *
+     * @param storeId 매장 ID
+     * @return 매장 평점 집계 Optional 객체
+     */
+    @Query("SELECT s.ratingSum AS ratingSum, s.reviewCount AS reviewCount FROM Store s WHERE s.id = :storeId")
+    Optional<StoreRatingView> findRatingById(@Param("storeId") Long storeId);
+
+    /**
+     * 매장 평점 집계 원자적 증감
+     *
+     * @param storeId     매장 ID
+     * @param ratingDelta 평점 합계 증감값
+     * @param countDelta  리뷰 수 증감값
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Store s SET s.ratingSum = s.ratingSum + :ratingDelta, s.reviewCount = s.reviewCount + :countDelta " +
+            "WHERE s.id = :storeId")
+    int adjustRating(
+            @Param("storeId") Long storeId,
+            @Param("ratingDelta") long ratingDelta,
+            @Param("countDelta") long countDelta
+    );
+
+    /**
+     * 전체 매장 ID 목록 조회
+     *
+     * @return 매장 ID 목록
+     */
+    @Query("SELECT s.id FROM Store s ORDER BY s.id")
+    List<Long> findAllIds();
+
+    /**
+     * 매장 행 잠금 (평점 집계 재계산 중 증감 반영 차단)
+     *
+     * @param storeId 매장 ID
+     * @return 잠근 매장 ID Optional 객체
+     */
+    @Query(value = "SELECT id FROM stores WHERE id = :storeId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("storeId") Long storeId);
+
+    /**
+     * 매장 평점 집계 덮어쓰기
+     *
+     * @param storeId     매장 ID
+     * @param ratingSum   평점 합계
+     * @param reviewCount 리뷰 수
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Store s SET s.ratingSum = :ratingSum, s.reviewCount = :reviewCount WHERE s.id = :storeId")
+    int overwriteRating(
+            @Param("storeId") Long storeId,
+            @Param("ratingSum") long ratingSum,
+            @Param("reviewCount") long reviewCount
+    );
 }
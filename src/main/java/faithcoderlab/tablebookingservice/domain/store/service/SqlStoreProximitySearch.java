@@ -0,0 +1,86 @@
+package faithcoderlab.tablebookingservice.domain.store.service;
+
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 데이터베이스 기반 매장 근접 검색 클래스
+ * 위도/경도 인덱스를 사용하는 경계 상자(bounding box) 조건으로 후보를 거른 뒤
+ * 남은 매장만 Haversine 거리로 정렬하여 최대 개수만큼 조회
+ * 검색 반경이 없으면 결과가 limit개 채워질 때까지 반경을 두 배씩 넓혀 다시 조회하되,
+ * 최대 검색 반경(store.proximity-search.max-radius-km)까지만 넓혀 조회 횟수를 제한
+ */
+@Component
+@ConditionalOnProperty(name = "store.proximity-search.mode", havingValue = "sql")
+public class SqlStoreProximitySearch implements StoreProximitySearch {
+
+    private static final double KM_PER_DEGREE = Math.PI * 6371 / 180;
+
+    private final StoreRepository storeRepository;
+    private final double initialRadiusKm;
+    private final double maxRadiusKm;
+    private final int maxResults;
+
+    public SqlStoreProximitySearch(
+            StoreRepository storeRepository,
+            @Value("${store.proximity-search.initial-radius-km:5}") double initialRadiusKm,
+            @Value("${store.proximity-search.max-radius-km:80}") double maxRadiusKm,
+            @Value("${store.proximity-search.max-results:100}") int maxResults
+    ) {
+        this.storeRepository = storeRepository;
+        this.initialRadiusKm = Math.min(initialRadiusKm, maxRadiusKm);
+        this.maxRadiusKm = maxRadiusKm;
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    public List<Neighbor> nearest(double latitude, double longitude, int limit, Double radiusKm) {
+        int cappedLimit = Math.min(limit, maxResults);
+        if (cappedLimit <= 0) {
+            return List.of();
+        }
+
+        if (radiusKm != null) {
+            return search(latitude, longitude, cappedLimit, radiusKm);
+        }
+
+        double searchRadiusKm = initialRadiusKm;
+        while (true) {
+            List<Neighbor> neighbors = search(latitude, longitude, cappedLimit, searchRadiusKm);
+            if (neighbors.size() >= cappedLimit || searchRadiusKm >= maxRadiusKm) {
+                return neighbors;
+            }
+            searchRadiusKm = Math.min(searchRadiusKm * 2, maxRadiusKm);
+        }
+    }
+
+    /**
+     * 반경 내 매장 조회
+     * 경계 상자가 극점이나 날짜 변경선을 넘으면 해당 축의 조건을 전체 범위로 확장
+     */
+    private List<Neighbor> search(double latitude, double longitude, int limit, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double minLat = latitude - latDelta;
+        double maxLat = latitude + latDelta;
+
+        double minLng = -180;
+        double maxLng = 180;
+        if (minLat > -90 && maxLat < 90) {
+            double lngDelta = latDelta / Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+            if (longitude - lngDelta >= -180 && longitude + lngDelta <= 180) {
+                minLng = longitude - lngDelta;
+                maxLng = longitude + lngDelta;
+            }
+        }
+
+        return storeRepository.findNearestInBoundingBox(
+                        latitude, longitude, minLat, maxLat, minLng, maxLng, radiusKm, limit
+                ).stream()
+                .map(view -> new Neighbor(view.getStoreId(), view.getDistanceKm()))
+                .toList();
+    }
+}
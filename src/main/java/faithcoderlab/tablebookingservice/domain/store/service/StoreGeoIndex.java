@@ -0,0 +1,312 @@
+package faithcoderlab.tablebookingservice.domain.store.service;
+
+import faithcoderlab.tablebookingservice.domain.store.entity.Store;
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreLocationView;
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 매장 위치 인덱스 클래스
+ * 활성 매장의 위치를 위도/경도 격자(그리드) 셀로 나누어 메모리에 유지하고
+ * 가까운 셀부터 고리(ring) 단위로 넓혀 가며 탐색하여 최근접 매장 및 반경 검색 시 주변 후보만 확인
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "store.proximity-search.mode", havingValue = "memory", matchIfMissing = true)
+@RequiredArgsConstructor
+public class StoreGeoIndex implements StoreProximitySearch {
+
+    /**
+     * 격자 셀 한 변의 크기 (도 단위, 위도 방향 약 5.5km)
+     */
+    private static final double CELL_DEGREES = 0.05;
+
+    private static final int LNG_CELLS = (int) Math.ceil(360 / CELL_DEGREES);
+
+    private static final double EARTH_RADIUS_KM = 6371;
+
+    private final StoreRepository storeRepository;
+
+    private final Map<Long, StorePoint> points = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    /**
+     * 재구성과 개별 매장 반영을 직렬화하는 잠금 (재구성은 DB 조회를 포함하므로 모니터 대신 사용)
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 애플리케이션 시작 시 데이터베이스로부터 인덱스 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.lock();
+        try {
+            points.clear();
+            cells.clear();
+
+            for (StoreLocationView location : storeRepository.findActiveStoreLocations()) {
+                put(location.getStoreId(), location.getLatitude(), location.getLongitude());
+            }
+
+            log.info("Store geo index rebuilt: {} stores across {} cells", points.size(), cells.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 매장 등록/수정을 인덱스에 반영 (트랜잭션 커밋 이후)
+     * 비활성 매장이거나 위치 정보가 없으면 인덱스에서 제거
+     *
+     * @param store 매장 객체
+     */
+    @Override
+    public void onStoreSaved(Store store) {
+        Long storeId = store.getId();
+        Double latitude = store.getLatitude();
+        Double longitude = store.getLongitude();
+        boolean indexable = store.isActive() && latitude != null && longitude != null;
+
+        runAfterCommit(() -> {
+            if (indexable) {
+                put(storeId, latitude, longitude);
+            } else {
+                remove(storeId);
+            }
+        });
+    }
+
+    /**
+     * 매장 삭제를 인덱스에 반영 (트랜잭션 커밋 이후)
+     *
+     * @param storeId 매장 ID
+     */
+    @Override
+    public void onStoreRemoved(Long storeId) {
+        runAfterCommit(() -> remove(storeId));
+    }
+
+    /**
+     * 최근접 매장 검색
+     * 기준 위치가 속한 셀부터 한 고리씩 넓혀 가며 탐색하고, 다음 고리의 최소 거리가
+     * 현재까지 찾은 k번째 거리나 검색 반경보다 크면 탐색 종료
+     * 확인할 셀 수가 매장 수보다 많아지면 전체 매장을 한 번씩만 확인
+     *
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     * @param limit     최대 결과 수
+     * @param radiusKm  검색 반경 (km, null이면 제한 없음)
+     * @return 거리순으로 정렬된 매장 목록
+     */
+    @Override
+    public List<Neighbor> nearest(double latitude, double longitude, int limit, Double radiusKm) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        double maxDistanceKm = radiusKm != null ? radiusKm : Double.POSITIVE_INFINITY;
+        PriorityQueue<Neighbor> nearest = new PriorityQueue<>(Comparator.comparingDouble(Neighbor::distanceKm).reversed());
+
+        int centerLat = latIndex(latitude);
+        int centerLng = lngIndex(longitude);
+        int totalStores = points.size();
+        int visitedCells = 0;
+
+        for (int ring = 0; ; ring++) {
+            if (ring > 0) {
+                double ringDistanceKm = ringLowerBoundKm(latitude, ring);
+                if (ringDistanceKm > maxDistanceKm) {
+                    break;
+                }
+                if (nearest.size() == limit && ringDistanceKm > nearest.peek().distanceKm()) {
+                    break;
+                }
+            }
+
+            int ringCells = ring == 0 ? 1 : 8 * ring;
+            if (visitedCells + ringCells > totalStores || 2 * ring + 1 > LNG_CELLS) {
+                return scanAll(latitude, longitude, limit, maxDistanceKm);
+            }
+            visitedCells += ringCells;
+
+            for (int dLat = -ring; dLat <= ring; dLat++) {
+                int step = Math.abs(dLat) == ring ? 1 : 2 * ring;
+                for (int dLng = -ring; dLng <= ring; dLng += step) {
+                    Set<Long> storeIds = cells.get(cellKey(centerLat + dLat, centerLng + dLng));
+                    if (storeIds == null) {
+                        continue;
+                    }
+
+                    for (Long storeId : storeIds) {
+                        StorePoint point = points.get(storeId);
+                        if (point != null) {
+                            offer(nearest, storeId, distanceKm(latitude, longitude, point.latitude(), point.longitude()),
+                                    limit, maxDistanceKm);
+                        }
+                    }
+                }
+            }
+        }
+
+        return toSortedList(nearest);
+    }
+
+    /**
+     * 인덱스에 포함된 매장 수 조회
+     *
+     * @return 매장 수
+     */
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * 두 지점 간의 거리 계산 (Haversine 공식)
+     *
+     * @return 거리 (km)
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double latDistance = Math.toRadians(lat2 - lat1);
+        double lngDistance = Math.toRadians(lng2 - lng1);
+
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(lngDistance / 2) * Math.sin(lngDistance / 2);
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return EARTH_RADIUS_KM * c;
+    }
+
+    /**
+     * 전체 매장을 한 번씩 확인하여 최근접 매장 검색
+     */
+    private List<Neighbor> scanAll(double latitude, double longitude, int limit, double maxDistanceKm) {
+        PriorityQueue<Neighbor> nearest = new PriorityQueue<>(Comparator.comparingDouble(Neighbor::distanceKm).reversed());
+        points.forEach((storeId, point) -> offer(nearest, storeId,
+                distanceKm(latitude, longitude, point.latitude(), point.longitude()), limit, maxDistanceKm));
+        return toSortedList(nearest);
+    }
+
+    /**
+     * 후보 매장을 최대 limit개의 최대 힙에 추가 (가장 먼 매장이 루트)
+     */
+    private void offer(PriorityQueue<Neighbor> nearest, Long storeId, double distanceKm, int limit, double maxDistanceKm) {
+        if (distanceKm > maxDistanceKm) {
+            return;
+        }
+
+        if (nearest.size() < limit) {
+            nearest.offer(new Neighbor(storeId, distanceKm));
+        } else if (distanceKm < nearest.peek().distanceKm()) {
+            nearest.poll();
+            nearest.offer(new Neighbor(storeId, distanceKm));
+        }
+    }
+
+    private List<Neighbor> toSortedList(PriorityQueue<Neighbor> nearest) {
+        List<Neighbor> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(Neighbor::distanceKm));
+        return result;
+    }
+
+    /**
+     * 기준 위치에서 ring번째 고리에 속한 셀까지의 최소 거리 (km)
+     * 고리 안쪽으로 최소 (ring - 1)개 셀만큼 위도 또는 경도 차이가 나므로
+     * 위도 방향은 자오선 거리, 경도 방향은 고리 내 최고 위도에서의 대원 거리로 하한을 계산
+     */
+    private double ringLowerBoundKm(double latitude, int ring) {
+        double gapRadians = Math.toRadians((ring - 1) * CELL_DEGREES);
+        double maxAbsLatitude = Math.min(90, Math.abs(latitude) + (ring + 1) * CELL_DEGREES);
+
+        double latitudeBound = EARTH_RADIUS_KM * gapRadians;
+        double longitudeBound = 2 * EARTH_RADIUS_KM * Math.asin(
+                Math.cos(Math.toRadians(maxAbsLatitude)) * Math.sin(Math.min(gapRadians / 2, Math.PI / 2)));
+
+        return Math.min(latitudeBound, longitudeBound);
+    }
+
+    private void put(Long storeId, double latitude, double longitude) {
+        lock.lock();
+        try {
+            remove(storeId);
+
+            long key = cellKey(latIndex(latitude), lngIndex(longitude));
+            points.put(storeId, new StorePoint(latitude, longitude, key));
+            cells.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(storeId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Long storeId) {
+        lock.lock();
+        try {
+            StorePoint previous = points.remove(storeId);
+            if (previous == null) {
+                return;
+            }
+
+            cells.computeIfPresent(previous.cellKey(), (key, storeIds) -> {
+                storeIds.remove(storeId);
+                return storeIds.isEmpty() ? null : storeIds;
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int latIndex(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private int lngIndex(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    private long cellKey(int latIndex, int lngIndex) {
+        return ((long) latIndex << 32) | Math.floorMod(lngIndex, LNG_CELLS);
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 작업 실행 (트랜잭션이 없으면 즉시 실행)
+     *
+     * @param action 실행할 작업
+     */
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 인덱스에 저장된 매장 위치
+     */
+    private record StorePoint(double latitude, double longitude, long cellKey) {
+    }
+}
@@ -0,0 +1,10 @@
+package faithcoderlab.tablebookingservice.domain.store.service;
+
+/**
+ * 매장 지표 변경 이벤트
+ * 리뷰, 예약, 매장 정보 변경으로 추천 순위가 달라질 수 있을 때 발행
+ *
+ * @param storeId 변경된 매장 ID
+ */
+public record StoreMetricsChangedEvent(Long storeId) {
+}
@@ -0,0 +1,45 @@
+package faithcoderlab.tablebookingservice.domain.store.service;
+
+import faithcoderlab.tablebookingservice.domain.store.entity.Store;
+
+import java.util.List;
+
+/**
+ * 매장 근접 검색 인터페이스
+ * store.proximity-search.mode 설정값에 따라 메모리 인덱스(memory) 또는 데이터베이스 쿼리(sql) 구현체 사용
+ */
+public interface StoreProximitySearch {
+
+    /**
+     * 최근접 매장 검색
+     *
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     * @param limit     최대 결과 수
+     * @param radiusKm  검색 반경 (km, null이면 제한 없음. 단, sql 구현체는 최대 검색 반경까지만 확장)
+     * @return 거리순으로 정렬된 매장 목록
+     */
+    List<Neighbor> nearest(double latitude, double longitude, int limit, Double radiusKm);
+
+    /**
+     * 매장 등록/수정 반영
+     *
+     * @param store 매장 객체
+     */
+    default void onStoreSaved(Store store) {
+    }
+
+    /**
+     * 매장 삭제 반영
+     *
+     * @param storeId 매장 ID
+     */
+    default void onStoreRemoved(Long storeId) {
+    }
+
+    /**
+     * 검색 결과 (매장 ID, 거리)
+     */
+    record Neighbor(Long storeId, double distanceKm) {
+    }
+}
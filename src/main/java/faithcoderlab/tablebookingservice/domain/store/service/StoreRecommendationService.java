@@ -1,82 +1,223 @@
 package faithcoderlab.tablebookingservice.domain.store.service;
 
-import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationRepository;
-import faithcoderlab.tablebookingservice.domain.review.repository.ReviewRepository;
 import faithcoderlab.tablebookingservice.domain.store.dto.StoreRecommendationDto;
-import faithcoderlab.tablebookingservice.domain.store.entity.Store;
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreMetricsView;
 import faithcoderlab.tablebookingservice.domain.store.repository.StoreRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 매장 추천 서비스 클래스
+ * 정렬 기준별 추천 순위(리더보드)를 메모리에 미리 계산해 두고 요청 시 상위 매장만 잘라서 반환
+ * 리더보드는 주기적으로, 그리고 리뷰/예약/매장 변경 이벤트가 있을 때 백그라운드에서 다시 계산하여 통째로 교체
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StoreRecommendationService {
 
+    private static final String SORT_BY_RATING = "rating";
+    private static final String SORT_BY_REVIEW = "review";
+    private static final String SORT_BY_RESERVATION = "reservation";
+
     private final StoreRepository storeRepository;
-    private final ReviewRepository reviewRepository;
-    private final ReservationRepository reservationRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 변경 이벤트가 없어도 리더보드를 다시 계산하는 최대 주기 (밀리초, 기본값: 5분)
+     */
+    @Value("${store.recommendation.max-age-ms:300000}")
+    private long maxAgeMillis;
+
+    private volatile Leaderboards leaderboards;
+
+    private volatile boolean dirty = true;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /**
+     * 리더보드 경과 시간 지표 등록
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("store.recommendation.leaderboard.age", this, StoreRecommendationService::leaderboardAgeSeconds)
+                .description("Seconds since the store recommendation leaderboards were rebuilt")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
 
     /**
      * 인기 매장 추천 메서드
      * 예약 수, 평점, 리뷰 수 등을 기준으로 인기 매장 추천
+     * 미리 계산된 리더보드에서 상위 limit개만 반환하며 데이터베이스에 접근하지 않음
      *
      * @param criteria 추천 기준 정보
      * @return 추천 매장 목록
      */
-    @Transactional(readOnly = true)
     public List<StoreRecommendationDto.Response> getRecommendedStores(StoreRecommendationDto.RecommendationCriteria criteria) {
-        String sortBy = criteria.getSortBy() != null ? criteria.getSortBy().toLowerCase() : "rating";
+        String sortBy = criteria.getSortBy() != null ? criteria.getSortBy().toLowerCase() : SORT_BY_RATING;
         int limit = criteria.getLimit() != null ? criteria.getLimit() : 10;
 
-        List<Store> stores = storeRepository.findAllByActiveOrderByNameAsc(true);
-
-        List<StoreRecommendationDto.Response> recommendationResponses = new java.util.ArrayList<>(stores.stream()
-                .map(store -> {
-                    Long storeId = store.getId();
-                    Double averageRating = reviewRepository.getAverageRatingByStoreId(storeId);
-                    Long reviewCount = reviewRepository.countByStoreIdAndActive(storeId, true);
-                    Long reservationCount = reservationRepository.countByStoreId(storeId);
-
-                    if (averageRating == null) {
-                        averageRating = 0.0;
-                    }
-
-                    return StoreRecommendationDto.Response.builder()
-                            .storeId(storeId)
-                            .name(store.getName())
-                            .address(store.getAddress())
-                            .description(store.getDescription())
-                            .phoneNumber(store.getPhoneNumber())
-                            .businessHours(store.getBusinessHours())
-                            .averageRating(averageRating)
-                            .reviewCount(reviewCount)
-                            .reservationCount(reservationCount)
-                            .latitude(store.getLatitude())
-                            .longitude(store.getLongitude())
-                            .build();
-                })
-                .toList());
-
-        switch (sortBy) {
-            case "reservation":
-                recommendationResponses.sort((a, b) -> b.getReservationCount().compareTo(a.getReservationCount()));
-                break;
-            case "review":
-                recommendationResponses.sort((a, b) -> b.getReviewCount().compareTo(a.getReviewCount()));
-                break;
-            case "rating":
-            default:
-                recommendationResponses.sort((a, b) -> b.getAverageRating().compareTo(a.getAverageRating()));
-                break;
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        Leaderboards current = leaderboards;
+        if (current == null) {
+            current = refresh();
         }
 
-        return recommendationResponses.stream()
-                .limit(limit)
-                .collect(Collectors.toList());
+        List<StoreRecommendationDto.Response> board = current.boards()
+                .getOrDefault(sortBy, current.boards().get(SORT_BY_RATING));
+
+        return new ArrayList<>(board.subList(0, Math.min(limit, board.size())));
+    }
+
+    /**
+     * 애플리케이션 시작 시 리더보드 계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initLeaderboards() {
+        refresh();
+    }
+
+    /**
+     * 매장 지표 변경 이벤트 처리
+     * 트랜잭션 커밋 이후 리더보드를 갱신 대상으로 표시
+     *
+     * @param event 매장 지표 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreMetricsChanged(StoreMetricsChangedEvent event) {
+        dirty = true;
+    }
 
+    /**
+     * 리더보드 갱신 (기본 10초마다 확인)
+     * 변경 이벤트가 있었거나 최대 주기가 지난 경우에만 다시 계산
+     */
+    @Scheduled(fixedDelayString = "${store.recommendation.refresh-interval-ms:10000}")
+    public void refreshIfStale() {
+        Leaderboards current = leaderboards;
+        if (dirty || current == null || System.currentTimeMillis() - current.builtAt() >= maxAgeMillis) {
+            refresh();
+        }
+    }
+
+    /**
+     * 리더보드 전체 재계산 후 교체
+     * 계산 중 들어온 변경 이벤트는 다음 갱신에 반영
+     * 가상 스레드에서 호출되어도 데이터베이스 조회 중 캐리어 스레드를 고정하지 않도록 synchronized 대신 ReentrantLock 사용
+     *
+     * @return 새로 계산된 리더보드
+     */
+    private Leaderboards refresh() {
+        refreshLock.lock();
+        try {
+            dirty = false;
+
+            List<StoreRecommendationDto.Response> stores = storeRepository.findActiveStoreMetrics().stream()
+                    .map(this::toResponse)
+                    .toList();
+
+            Leaderboards refreshed = new Leaderboards(Map.of(
+                    SORT_BY_RATING, rank(stores, SORT_BY_RATING),
+                    SORT_BY_REVIEW, rank(stores, SORT_BY_REVIEW),
+                    SORT_BY_RESERVATION, rank(stores, SORT_BY_RESERVATION)
+            ), System.currentTimeMillis());
+
+            leaderboards = refreshed;
+            log.debug("Store recommendation leaderboards rebuilt: {} stores", stores.size());
+            return refreshed;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 정렬 기준별 순위 목록 생성
+     *
+     * @param stores 추천 대상 매장 목록
+     * @param sortBy 정렬 기준
+     * @return 정렬된 불변 목록
+     */
+    private List<StoreRecommendationDto.Response> rank(List<StoreRecommendationDto.Response> stores, String sortBy) {
+        List<StoreRecommendationDto.Response> ranked = new ArrayList<>(stores);
+        ranked.sort(rankingOf(sortBy));
+        return List.copyOf(ranked);
+    }
+
+    /**
+     * 정렬 기준별 추천 순위 비교자 생성
+     * 지표가 같으면 매장 이름순으로 정렬
+     *
+     * @param sortBy 정렬 기준 (reservation, review, rating)
+     * @return 추천 순위 비교자 (앞설수록 높은 순위)
+     */
+    private Comparator<StoreRecommendationDto.Response> rankingOf(String sortBy) {
+        Comparator<StoreRecommendationDto.Response> byMetric = switch (sortBy) {
+            case SORT_BY_RESERVATION -> Comparator.comparing(StoreRecommendationDto.Response::getReservationCount);
+            case SORT_BY_REVIEW -> Comparator.comparing(StoreRecommendationDto.Response::getReviewCount);
+            default -> Comparator.comparing(StoreRecommendationDto.Response::getAverageRating);
+        };
+
+        return byMetric.reversed().thenComparing(StoreRecommendationDto.Response::getName);
+    }
+
+    /**
+     * 리더보드 경과 시간(초) 계산
+     *
+     * @return 마지막 계산 이후 경과 시간 (계산 전이면 NaN)
+     */
+    private double leaderboardAgeSeconds() {
+        Leaderboards current = leaderboards;
+        if (current == null) {
+            return Double.NaN;
+        }
+
+        return (System.currentTimeMillis() - current.builtAt()) / 1000.0;
+    }
+
+    /**
+     * 매장 지표를 추천 응답으로 변환
+     *
+     * @param metrics 매장 지표
+     * @return 추천 매장 응답
+     */
+    private StoreRecommendationDto.Response toResponse(StoreMetricsView metrics) {
+        return StoreRecommendationDto.Response.builder()
+                .storeId(metrics.getStoreId())
+                .name(metrics.getName())
+                .address(metrics.getAddress())
+                .description(metrics.getDescription())
+                .phoneNumber(metrics.getPhoneNumber())
+                .businessHours(metrics.getBusinessHours())
+                .averageRating(metrics.getReviewCount() > 0 ? (double) metrics.getRatingSum() / metrics.getReviewCount() : 0.0)
+                .reviewCount(metrics.getReviewCount())
+                .reservationCount(metrics.getReservationCount())
+                .latitude(metrics.getLatitude())
+                .longitude(metrics.getLongitude())
+                .build();
+    }
+
+    /**
+     * 정렬 기준별 리더보드와 계산 시각
+     */
+    private record Leaderboards(Map<String, List<StoreRecommendationDto.Response>> boards, long builtAt) {
     }
 }
@@ -8,11 +8,16 @@ import faithcoderlab.tablebookingservice.domain.store.repository.StoreRepository
 import faithcoderlab.tablebookingservice.global.exception.CustomException;
 import faithcoderlab.tablebookingservice.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +30,14 @@ public class StoreService {
 
     private final StoreRepository storeRepository;
     private final PartnerRepository partnerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StoreProximitySearch storeProximitySearch;
+
+    /**
+     * 거리순 조회 시 최대 조회 개수 (근접 검색 구현체와 관계없이 동일하게 적용)
+     */
+    @Value("${store.proximity-search.max-results:100}")
+    private int maxNearbyResults;
 
     /**
      * 매장 등록 메서드
@@ -48,11 +61,15 @@ public class StoreService {
                 .description(request.getDescription())
                 .phoneNumber(request.getPhoneNumber())
                 .businessHours(request.getBusinessHours())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
                 .partner(partner)
                 .active(true)
                 .build();
 
         Store savedStore = storeRepository.save(store);
+        storeProximitySearch.onStoreSaved(savedStore);
+        eventPublisher.publishEvent(new StoreMetricsChangedEvent(savedStore.getId()));
 
         return StoreDto.CreateResponse.builder()
                 .storeId(savedStore.getId())
@@ -63,6 +80,8 @@ public class StoreService {
                 .businessHours(savedStore.getBusinessHours())
                 .partnerId(partner.getId())
                 .createdAt(savedStore.getCreatedAt())
+                .latitude(savedStore.getLatitude())
+                .longitude(savedStore.getLongitude())
                 .build();
     }
 
@@ -125,8 +144,12 @@ public class StoreService {
         store.setDescription(request.getDescription());
         store.setPhoneNumber(request.getPhoneNumber());
         store.setBusinessHours(request.getBusinessHours());
+        store.setLatitude(request.getLatitude());
+        store.setLongitude(request.getLongitude());
 
         Store updatedStore = storeRepository.save(store);
+        storeProximitySearch.onStoreSaved(updatedStore);
+        eventPublisher.publishEvent(new StoreMetricsChangedEvent(updatedStore.getId()));
 
         return StoreDto.UpdateResponse.builder()
                 .storeId(updatedStore.getId())
@@ -137,6 +160,8 @@ public class StoreService {
                 .businessHours(updatedStore.getBusinessHours())
                 .partnerId(updatedStore.getPartner().getId())
                 .updatedAt(updatedStore.getUpdatedAt())
+                .latitude(updatedStore.getLatitude())
+                .longitude(updatedStore.getLongitude())
                 .build();
     }
 
@@ -157,6 +182,8 @@ public class StoreService {
 
         store.setActive(false);
         storeRepository.save(store);
+        storeProximitySearch.onStoreRemoved(storeId);
+        eventPublisher.publishEvent(new StoreMetricsChangedEvent(storeId));
     }
 
     /**
@@ -177,50 +204,79 @@ public class StoreService {
                 .partnerName(store.getPartner().getName())
                 .createdAt(store.getCreatedAt())
                 .updatedAt(store.getUpdatedAt())
+                .latitude(store.getLatitude())
+                .longitude(store.getLongitude())
                 .build();
     }
 
     /**
      * 매장 목록 조회 메서드 (정렬 기준 적용)
+     * 거리순 조회는 매장 근접 검색에서 주변 후보만 확인하며, 위치 정보가 없는 매장은 제외
+     * 거리순 조회 개수는 store.proximity-search.max-results 이하로 제한
      *
-     * @param sortBy 정렬 기준 (name, distance)
-     * @param lat    사용자 위치 위도 (거리순 정렬 시 필요)
-     * @param lng    사용자 위치 경도 (거리순 정렬 시 필요)
+     * @param sortBy   정렬 기준 (name, distance)
+     * @param lat      사용자 위치 위도 (거리순 정렬 시 필요)
+     * @param lng      사용자 위치 경도 (거리순 정렬 시 필요)
+     * @param limit    최대 조회 개수 (선택적)
+     * @param radiusKm 검색 반경 km (선택적, 거리순 정렬 시에만 적용)
      * @return 정렬된 매장 목록
      */
-
     @Transactional(readOnly = true)
-    public List<StoreDto.StoreInfoResponse> getAllStores(String sortBy, Double lat, Double lng) {
-        List<Store> stores;
+    public List<StoreDto.StoreInfoResponse> getAllStores(String sortBy, Double lat, Double lng, Integer limit, Double radiusKm) {
+        if (limit != null && limit <= 0) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "조회 개수는 1 이상이어야 합니다.");
+        }
+
+        if (radiusKm != null && radiusKm <= 0) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "검색 반경은 0보다 커야 합니다.");
+        }
 
         if ("distance".equals(sortBy) && lat != null && lng != null) {
-            stores = storeRepository.findAllByActive(true);
-            stores.sort(Comparator.comparingDouble(store ->
-                    calculateDistance(lat, lng, store.getLatitude(), store.getLongitude())));
-        } else {
-            stores = storeRepository.findAllByActiveOrderByNameAsc(true);
+            int nearbyLimit = limit != null ? Math.min(limit, maxNearbyResults) : maxNearbyResults;
+            return getNearbyStores(lat, lng, nearbyLimit, radiusKm);
         }
 
+        List<Store> stores = limit != null
+                ? storeRepository.findAllByActiveOrderByNameAsc(true, PageRequest.of(0, limit))
+                : storeRepository.findAllByActiveOrderByNameAsc(true);
+
         return stores.stream()
                 .map(this::convertToStoreInfoResponse)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 두 지점 간의 거리 계산 (Haversine 공식)
+     * 거리순 매장 목록 조회
+     *
+     * @param lat      사용자 위치 위도
+     * @param lng      사용자 위치 경도
+     * @param limit    최대 조회 개수
+     * @param radiusKm 검색 반경 km (null이면 제한 없음)
+     * @return 거리순으로 정렬된 매장 목록
      */
-    private double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
-        final int R = 6371;
-
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lngDistance = Math.toRadians(lng2 - lng1);
-
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lngDistance / 2) * Math.sin(lngDistance / 2);
+    private List<StoreDto.StoreInfoResponse> getNearbyStores(double lat, double lng, int limit, Double radiusKm) {
+        List<StoreProximitySearch.Neighbor> neighbors = storeProximitySearch.nearest(lat, lng, limit, radiusKm);
+        if (neighbors.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        Map<Long, Store> stores = storeRepository.findAllWithPartnerByIdIn(
+                        neighbors.stream().map(StoreProximitySearch.Neighbor::storeId).toList()
+                ).stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+
+        List<StoreDto.StoreInfoResponse> responses = new ArrayList<>(neighbors.size());
+        for (StoreProximitySearch.Neighbor neighbor : neighbors) {
+            Store store = stores.get(neighbor.storeId());
+            if (store == null || !store.isActive()) {
+                continue;
+            }
+
+            StoreDto.StoreInfoResponse response = convertToStoreInfoResponse(store);
+            response.setDistanceKm(neighbor.distanceKm());
+            responses.add(response);
+        }
 
-        return R * c;
+        return responses;
     }
 }
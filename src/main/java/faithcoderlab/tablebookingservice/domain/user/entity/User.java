@@ -16,7 +16,7 @@ import java.time.LocalDateTime;
  * 매장을 이용하는 사용자 정보를 저장하는 엔티티
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_phone", columnList = "phone"))
 @Data
 @Builder
 @NoArgsConstructor
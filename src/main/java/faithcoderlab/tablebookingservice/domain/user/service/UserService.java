@@ -1,5 +1,7 @@
 package faithcoderlab.tablebookingservice.domain.user.service;
 
+import faithcoderlab.tablebookingservice.domain.auth.repository.AccountRepository;
+import faithcoderlab.tablebookingservice.domain.auth.repository.SignUpConflictView;
 import faithcoderlab.tablebookingservice.domain.user.dto.UserDto;
 import faithcoderlab.tablebookingservice.domain.user.entity.User;
 import faithcoderlab.tablebookingservice.domain.UserRole;
@@ -20,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final AccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
 
     /**
@@ -30,11 +33,15 @@ public class UserService {
      */
     @Transactional
     public UserDto.SignUpResponse signUp(UserDto.SignUpRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
+        SignUpConflictView conflicts = accountRepository.findSignUpConflicts(
+                request.getEmail(), request.getPhone(), null, false
+        );
+
+        if (conflicts.isEmailTaken()) {
             throw new CustomException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
 
-        if (userRepository.existsByPhone(request.getPhone())) {
+        if (conflicts.isPhoneTaken()) {
             throw new CustomException(ErrorCode.PHONE_ALREADY_EXISTS);
         }
 
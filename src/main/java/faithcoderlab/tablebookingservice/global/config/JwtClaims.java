@@ -0,0 +1,48 @@
+package faithcoderlab.tablebookingservice.global.config;
+
+import faithcoderlab.tablebookingservice.global.security.JwtPrincipal;
+import faithcoderlab.tablebookingservice.global.security.PrincipalType;
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * 검증된 JWT 토큰의 클레임
+ * 서명 검증을 마친 토큰에서 한 번만 추출하여 이후 처리에서 다시 파싱하지 않도록 사용
+ *
+ * @param id         계정 ID (이전 토큰이면 null)
+ * @param type       계정 유형 (이전 토큰이면 null)
+ * @param email      토큰 주체(이메일)
+ * @param role       사용자 역할
+ * @param issuedAt   발급 시간
+ * @param expiration 만료 시간
+ */
+public record JwtClaims(Long id, PrincipalType type, String email, String role, Date issuedAt, Date expiration) {
+
+    /**
+     * 인증 주체 생성
+     *
+     * @return JWT 인증 주체
+     */
+    public JwtPrincipal toPrincipal() {
+        return new JwtPrincipal(id, type, email, role);
+    }
+
+    /**
+     * 파싱된 클레임으로 생성
+     *
+     * @param claims 클레임
+     * @return JWT 클레임
+     */
+    static JwtClaims from(Claims claims) {
+        String type = claims.get("type", String.class);
+        return new JwtClaims(
+                claims.get("id", Long.class),
+                type != null ? PrincipalType.valueOf(type) : null,
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.getIssuedAt(),
+                claims.getExpiration()
+        );
+    }
+}
@@ -0,0 +1,124 @@
+package faithcoderlab.tablebookingservice.global.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 검증된 JWT 클레임 캐시 클래스
+ * 같은 토큰이 반복해서 사용될 때 서명 검증과 JSON 파싱을 다시 하지 않도록 토큰 해시별 클레임을 보관
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하며, 토큰이 만료되면 조회 시점에 제거
+ * 조회는 잠금 없이 처리하고, 최대 개수에 도달하면 한 스레드만 만료된 항목과 임의의 항목 일부를 제거
+ * 제거 중에 들어온 저장 요청은 기다리지 않고 저장하되, 최대 개수를 한 배치 이상 넘으면 저장하지 않음
+ */
+class JwtClaimsCache {
+
+    private final int maxEntries;
+    private final int evictionBatchSize;
+    private final ConcurrentHashMap<String, JwtClaims> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    JwtClaimsCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.evictionBatchSize = Math.max(1, maxEntries / 10);
+    }
+
+    /**
+     * 캐시된 클레임 조회
+     *
+     * @param tokenHash 토큰 해시
+     * @param now       현재 시각 (밀리초)
+     * @return 캐시된 클레임 (없거나 토큰이 만료된 경우 null)
+     */
+    JwtClaims get(String tokenHash, long now) {
+        JwtClaims claims = entries.get(tokenHash);
+        if (claims == null) {
+            return null;
+        }
+
+        if (isExpired(claims, now)) {
+            entries.remove(tokenHash, claims);
+            return null;
+        }
+        return claims;
+    }
+
+    /**
+     * 검증된 클레임 저장 (만료 시간이 없는 토큰은 저장하지 않음)
+     * 다른 스레드의 제거가 끝나지 않아 최대 개수를 한 배치 이상 넘은 경우에도 저장하지 않음
+     *
+     * @param tokenHash 토큰 해시
+     * @param claims    검증된 클레임
+     * @param now       현재 시각 (밀리초)
+     */
+    void put(String tokenHash, JwtClaims claims, long now) {
+        if (maxEntries <= 0 || claims.expiration() == null) {
+            return;
+        }
+
+        if (entries.size() >= maxEntries) {
+            evict(now);
+            if (entries.size() >= maxEntries + evictionBatchSize) {
+                return;
+            }
+        }
+        entries.put(tokenHash, claims);
+    }
+
+    /**
+     * 캐시된 항목 수
+     *
+     * @return 항목 수
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료된 항목을 제거하고, 그래도 여유가 없으면 임의의 항목을 제거하여 한 배치만큼 공간 확보
+     * 다른 스레드가 이미 제거 중이면 기다리지 않고 반환
+     *
+     * @param now 현재 시각 (밀리초)
+     */
+    private void evict(long now) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            entries.values().removeIf(claims -> isExpired(claims, now));
+
+            int excess = entries.size() - (maxEntries - evictionBatchSize);
+            Iterator<String> iterator = entries.keySet().iterator();
+            while (excess-- > 0 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean isExpired(JwtClaims claims, long now) {
+        return claims.expiration() == null || claims.expiration().getTime() <= now;
+    }
+
+    /**
+     * 토큰 해시 생성
+     *
+     * @param token JWT 토큰
+     * @return SHA-256 해시 (Base64)
+     */
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package faithcoderlab.tablebookingservice.global.config;
 
+import faithcoderlab.tablebookingservice.global.security.PrincipalType;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -20,13 +22,29 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
-    private static final long JWT_TOKEN_VALIDITY = 24 * 60 * 60 * 1000;
+    /**
+     * 토큰 유효 기간 (밀리초)
+     */
+    public static final long JWT_TOKEN_VALIDITY = 24 * 60 * 60 * 1000;
 
     @Value("${spring.jwt.secret}")
     private String secretFromEnv;
 
+    /**
+     * 검증된 토큰 클레임 캐시 최대 개수 (기본값: 10000, 0이면 캐시하지 않음)
+     */
+    @Value("${spring.jwt.claims-cache.max-entries:10000}")
+    private int claimsCacheMaxEntries;
+
     private Key key;
 
+    private JwtClaimsCache claimsCache;
+
+    /**
+     * 서명 검증용 파서 (불변 객체이므로 스레드 간에 공유)
+     */
+    private JwtParser parser;
+
     /**
      * 초기화 메서드
      * application.yml에서 가져온 시크릿 키를 사용하여 Key 객체 생성
@@ -37,6 +55,29 @@ public class JwtUtil {
             throw new IllegalArgumentException("JWT secret key is not configured. Please set jwt.secret in application.yml or JWT_SECRET environment variable.");
         }
         this.key = Keys.hmacShaKeyFor(secretFromEnv.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.claimsCache = new JwtClaimsCache(claimsCacheMaxEntries);
+    }
+
+    /**
+     * 토큰 서명과 만료 시간을 한 번 검증하고 클레임 반환
+     * 이미 검증한 토큰은 만료 전까지 캐시된 클레임을 반환
+     *
+     * @param token JWT 토큰
+     * @return 검증된 클레임
+     * @throws io.jsonwebtoken.JwtException 토큰이 유효하지 않거나 만료된 경우
+     */
+    public JwtClaims parse(String token) {
+        String tokenHash = JwtClaimsCache.hash(token);
+        long now = System.currentTimeMillis();
+        JwtClaims cached = claimsCache.get(tokenHash, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        JwtClaims claims = JwtClaims.from(extractAllClaims(token));
+        claimsCache.put(tokenHash, claims, now);
+        return claims;
     }
 
     /**
@@ -78,7 +119,7 @@ public class JwtUtil {
      * @return 모든 클레임
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /**
@@ -92,14 +133,19 @@ public class JwtUtil {
     }
 
     /**
-     * 이메일을 기반으로
+     * 계정 정보를 기반으로 JWT 토큰 생성
+     * 계정 ID와 유형을 클레임에 포함하여 요청마다 이메일로 계정을 조회하지 않도록 함
      *
+     * @param id    계정 ID
+     * @param type  계정 유형
      * @param email 사용자 이메일
      * @param role  사용자 역할
      * @return 생성된 JWT 토큰
      */
-    public String generateToken(String email, String role) {
+    public String generateToken(Long id, PrincipalType type, String email, String role) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put("id", id);
+        claims.put("type", type.name());
         claims.put("role", role);
         return createToken(claims, email);
     }
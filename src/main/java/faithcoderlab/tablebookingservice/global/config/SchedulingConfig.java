@@ -0,0 +1,13 @@
+package faithcoderlab.tablebookingservice.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ * 주기적으로 실행되는 백그라운드 작업 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
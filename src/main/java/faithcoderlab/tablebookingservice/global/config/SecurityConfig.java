@@ -1,7 +1,11 @@
 package faithcoderlab.tablebookingservice.global.config;
 
+import faithcoderlab.tablebookingservice.global.security.BoundedPasswordEncoder;
 import faithcoderlab.tablebookingservice.global.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -12,7 +16,9 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.DispatcherTypeRequestMatcher;
 
 /**
  * 스프링 시큐리티 설정 클래스
@@ -37,6 +43,11 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 예약 내보내기 스트리밍 응답 완료를 위한 비동기 디스패치는 최초 요청에서 이미 인가됨
+                        .requestMatchers(new AndRequestMatcher(
+                                new DispatcherTypeRequestMatcher(DispatcherType.ASYNC),
+                                new AntPathRequestMatcher("/api/reservations/partner/*/export", "GET")
+                        )).permitAll()
                         .requestMatchers(
                                 new AntPathRequestMatcher("/api/users/signup"),
                                 new AntPathRequestMatcher("/api/partners/signup"),
@@ -53,10 +64,21 @@ public class SecurityConfig {
 
     /**
      * 비밀번호 인코더 빈 등록
-     * @return BCryptPasswordEncoder 객체
+     * BCrypt 해싱은 코어 수만큼의 전용 스레드에서 실행하고, 대기열이 가득 차면 503으로 거절
+     * @param meterRegistry 메트릭 레지스트리
+     * @param threads 해싱 스레드 수 (0이면 CPU 코어 수)
+     * @param queueCapacity 해싱 대기열 최대 크기
+     * @param timeoutMillis 해싱 대기 제한 시간 (밀리초)
+     * @return BoundedPasswordEncoder 객체
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hashing.timeout-ms:5000}") long timeoutMillis
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, timeoutMillis, meterRegistry);
     }
 }
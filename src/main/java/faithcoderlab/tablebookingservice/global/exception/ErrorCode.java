@@ -14,6 +14,7 @@ public enum ErrorCode {
 
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증되지 않았습니다."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
@@ -31,9 +32,14 @@ public enum ErrorCode {
     INVALID_RESERVATION_TIME(HttpStatus.BAD_REQUEST, "예약 시간이 유효하지 않습니다."),
     RESERVATION_ALREADY_EXISTS(HttpStatus.CONFLICT, "해당 시간에 이미 예약이 존재합니다."),
     RESERVATION_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "예약할 수 없는 상태입니다."),
+    RESERVATION_HOLD_NOT_FOUND(HttpStatus.NOT_FOUND, "예약 홀드를 찾을 수 없거나 만료되었습니다."),
+    RESERVATION_HOLD_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "동시에 유지할 수 있는 예약 홀드 수를 초과했습니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key로 처리 중인 요청이 있습니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_MISMATCH(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key가 다른 요청에 이미 사용되었습니다."),
 
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "리뷰를 찾을 수 없습니다."),
     NOT_REVIEW_OWNER(HttpStatus.FORBIDDEN, "리뷰 작성자만 수정할 수 있습니다."),
+    REVIEW_UPDATE_CONFLICT(HttpStatus.CONFLICT, "리뷰가 다른 요청에 의해 변경되었습니다. 다시 시도해주세요."),
     INVALID_REVIEW_PERMISSION(HttpStatus.FORBIDDEN, "리뷰를 삭제할 권한이 없습니다.");
 
     private final HttpStatus httpStatus;
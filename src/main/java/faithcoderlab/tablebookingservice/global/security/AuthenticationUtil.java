@@ -56,10 +56,19 @@ public class AuthenticationUtil {
 
     /**
      * 현재 인증된 사용자가 해당 파트너인지 확인
+     * 토큰에 계정 ID가 포함되어 있으면 조회 없이 비교
      *
      * @param partnerId 파트너 ID
      */
     public void validatePartnerOwnership(Long partnerId) {
+        JwtPrincipal principal = getCurrentPrincipal();
+        if (principal != null && principal.isIdentified()) {
+            if (principal.type() != PrincipalType.PARTNER || !principal.id().equals(partnerId)) {
+                throw new CustomException(ErrorCode.FORBIDDEN);
+            }
+            return;
+        }
+
         String currentUserEmail = getCurrentUserEmail();
 
         Partner partner = partnerRepository.findById(partnerId)
@@ -70,7 +79,18 @@ public class AuthenticationUtil {
         }
     }
 
+    /**
+     * 현재 인증된 사용자의 계정 ID 반환
+     * 토큰에 계정 ID가 포함되어 있으면 조회 없이 반환하고, 이전 토큰이면 이메일로 계정 조회
+     *
+     * @return 계정 ID
+     */
     public Long getCurrentUserId() {
+        JwtPrincipal principal = getCurrentPrincipal();
+        if (principal != null && principal.isIdentified()) {
+            return principal.id();
+        }
+
         String email = getCurrentUserEmail();
         Collection<? extends GrantedAuthority> authorities = SecurityContextHolder.getContext()
                 .getAuthentication().getAuthorities();
@@ -88,4 +108,33 @@ public class AuthenticationUtil {
                     .getId();
         }
     }
+
+    /**
+     * 현재 인증된 사용자가 파트너인지 확인
+     * 토큰에 계정 유형이 포함되어 있으면 계정 유형으로, 이전 토큰이면 역할로 판단
+     *
+     * @return 파트너이면 true
+     */
+    public boolean isCurrentPartner() {
+        JwtPrincipal principal = getCurrentPrincipal();
+        if (principal != null && principal.isIdentified()) {
+            return principal.type() == PrincipalType.PARTNER;
+        }
+
+        return SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_PARTNER"));
+    }
+
+    /**
+     * 현재 인증 주체 반환
+     *
+     * @return JWT 인증 주체 (JWT 인증이 아니면 null)
+     */
+    private JwtPrincipal getCurrentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        return authentication.getPrincipal() instanceof JwtPrincipal principal ? principal : null;
+    }
 }
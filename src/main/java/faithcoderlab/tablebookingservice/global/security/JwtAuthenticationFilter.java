@@ -1,7 +1,7 @@
 package faithcoderlab.tablebookingservice.global.security;
 
+import faithcoderlab.tablebookingservice.global.config.JwtClaims;
 import faithcoderlab.tablebookingservice.global.config.JwtUtil;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,7 +20,7 @@ import java.util.Collections;
 
 /**
  * JWT 토큰 인증 필터 클래스
- * 요청에 포함된 JWT 토큰을 검증하고 인증 정보 설정
+ * 요청에 포함된 JWT 토큰을 한 번만 검증하고 인증 정보 설정
  */
 @Component
 @RequiredArgsConstructor
@@ -46,13 +46,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = header.substring(TOKEN_PREFIX.length());
 
         try {
-            String email = jwtUtil.extractEmail(token);
-
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                String role = jwtUtil.extractClaim(token, claims -> claims.get("role", String.class));
+            JwtClaims claims = jwtUtil.parse(token);
 
+            if (claims.email() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                JwtPrincipal principal = claims.toPrincipal();
                 UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                        email, null, Collections.singletonList(new SimpleGrantedAuthority(role))
+                        principal, null, Collections.singletonList(new SimpleGrantedAuthority(claims.role()))
                 );
 
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -0,0 +1,29 @@
+package faithcoderlab.tablebookingservice.global.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * JWT 인증 주체
+ * 토큰 클레임에 포함된 계정 ID와 유형을 보관하여 요청마다 이메일로 계정을 조회하지 않도록 사용
+ *
+ * @param id    계정 ID (계정 ID 클레임이 없는 이전 토큰이면 null)
+ * @param type  계정 유형 (계정 유형 클레임이 없는 이전 토큰이면 null)
+ * @param email 이메일
+ * @param role  사용자 역할
+ */
+public record JwtPrincipal(Long id, PrincipalType type, String email, String role) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * 계정 ID와 유형 클레임이 모두 포함된 토큰인지 확인
+     *
+     * @return 계정 ID와 유형을 알 수 있으면 true
+     */
+    public boolean isIdentified() {
+        return id != null && type != null;
+    }
+}
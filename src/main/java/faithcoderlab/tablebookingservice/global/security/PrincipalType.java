@@ -0,0 +1,17 @@
+package faithcoderlab.tablebookingservice.global.security;
+
+/**
+ * 인증 주체 유형 열거형
+ * 토큰 주체가 어느 계정 테이블에 속하는지 구분
+ */
+public enum PrincipalType {
+    /**
+     * 일반 사용자
+     */
+    USER,
+
+    /**
+     * 파트너(점장)
+     */
+    PARTNER
+}
@@ -0,0 +1,129 @@
+package faithcoderlab.tablebookingservice.domain.reservation.service;
+
+import faithcoderlab.tablebookingservice.domain.reservation.config.ReservationConfig;
+import faithcoderlab.tablebookingservice.domain.reservation.entity.Reservation;
+import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationRepository;
+import faithcoderlab.tablebookingservice.domain.store.entity.Store;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReservationAvailabilityIndexTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+    private static final LocalTime HOT_SLOT = LocalTime.of(19, 0);
+
+    private ReservationAvailabilityIndex availabilityIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReservationConfig reservationConfig = new ReservationConfig(new MockEnvironment(), event -> {
+        });
+        ReflectionTestUtils.setField(reservationConfig, "availableDaysAhead", 14);
+        reservationConfig.init();
+
+        ReservationRepository reservationRepository = mock(ReservationRepository.class);
+        when(reservationRepository.findSlotsByReservationDateBetweenAndStatusIn(any(), any(), any()))
+                .thenReturn(List.of());
+
+        availabilityIndex = new ReservationAvailabilityIndex(reservationRepository, reservationConfig);
+        availabilityIndex.rebuild();
+    }
+
+    @Test
+    void hotSlotAdmitsExactlyOneBookingPerRound() throws Exception {
+        int threads = 16;
+        int rounds = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicInteger doubleBookings = new AtomicInteger();
+
+        try {
+            for (int round = 0; round < rounds; round++) {
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> attempts = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    attempts.add(executor.submit(() -> {
+                        start.await();
+                        return availabilityIndex.tryOccupy(STORE_ID, DATE, HOT_SLOT);
+                    }));
+                }
+                start.countDown();
+
+                int admitted = 0;
+                for (Future<Boolean> attempt : attempts) {
+                    if (attempt.get(5, TimeUnit.SECONDS)) {
+                        admitted++;
+                    }
+                }
+                if (admitted != 1) {
+                    doubleBookings.incrementAndGet();
+                }
+
+                cancel();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(doubleBookings.get()).isZero();
+    }
+
+    @Test
+    void rolledBackAdmissionReleasesSlot() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(availabilityIndex.tryOccupy(STORE_ID, DATE, HOT_SLOT)).isTrue();
+            assertThat(availabilityIndex.tryOccupy(STORE_ID, DATE, HOT_SLOT)).isFalse();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(availabilityIndex.getBookedSlots(STORE_ID, DATE).isEmpty()).isTrue();
+        assertThat(availabilityIndex.tryOccupy(STORE_ID, DATE, HOT_SLOT)).isTrue();
+    }
+
+    @Test
+    void heldSlotStaysClaimedAfterRebuild() {
+        ReservationHoldRegistry holdRegistry = new ReservationHoldRegistry(availabilityIndex, 120, 3);
+        assertThat(availabilityIndex.tryOccupy(STORE_ID, DATE, HOT_SLOT)).isTrue();
+        assertThat(holdRegistry.place(10L, STORE_ID, DATE, HOT_SLOT)).isNotNull();
+
+        availabilityIndex.rebuild();
+
+        assertThat(availabilityIndex.tryOccupy(STORE_ID, DATE, HOT_SLOT)).isFalse();
+        assertThat(availabilityIndex.getBookedSlots(STORE_ID, DATE).isEmpty()).isFalse();
+    }
+
+    private void cancel() {
+        Reservation reservation = Reservation.builder()
+                .store(Store.builder().id(STORE_ID).build())
+                .reservationDate(DATE)
+                .reservationTime(HOT_SLOT)
+                .build();
+        availabilityIndex.onStatusChanged(reservation, ReservationStatus.PENDING, ReservationStatus.CANCELLED);
+    }
+}
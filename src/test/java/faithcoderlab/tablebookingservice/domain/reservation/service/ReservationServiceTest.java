@@ -0,0 +1,187 @@
+package faithcoderlab.tablebookingservice.domain.reservation.service;
+
+import faithcoderlab.tablebookingservice.domain.notification.service.NotificationService;
+import faithcoderlab.tablebookingservice.domain.partner.repository.PartnerRepository;
+import faithcoderlab.tablebookingservice.domain.reservation.config.ReservationConfig;
+import faithcoderlab.tablebookingservice.domain.reservation.dto.ReservationDto;
+import faithcoderlab.tablebookingservice.domain.reservation.entity.Reservation;
+import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationRepository;
+import faithcoderlab.tablebookingservice.domain.store.entity.Store;
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreRepository;
+import faithcoderlab.tablebookingservice.domain.user.entity.User;
+import faithcoderlab.tablebookingservice.domain.user.repository.UserRepository;
+import faithcoderlab.tablebookingservice.global.exception.CustomException;
+import faithcoderlab.tablebookingservice.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReservationServiceTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+    private static final LocalTime HOT_SLOT = LocalTime.of(19, 0);
+
+    private final Map<SlotKey, Long> activeSlots = new ConcurrentHashMap<>();
+    private final AtomicLong reservationIds = new AtomicLong();
+
+    private ReservationConfig reservationConfig;
+    private ReservationRepository reservationRepository;
+    private StoreRepository storeRepository;
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        reservationConfig = new ReservationConfig(new MockEnvironment(), event -> {
+        });
+        ReflectionTestUtils.setField(reservationConfig, "availableDaysAhead", 14);
+        reservationConfig.init();
+
+        reservationRepository = mock(ReservationRepository.class);
+        when(reservationRepository.findSlotsByReservationDateBetweenAndStatusIn(any(), any(), any()))
+                .thenReturn(List.of());
+        when(reservationRepository.saveAndFlush(any(Reservation.class))).thenAnswer(invocation -> {
+            Reservation reservation = invocation.getArgument(0);
+            Long id = reservationIds.incrementAndGet();
+            SlotKey key = new SlotKey(reservation.getStore().getId(), reservation.getReservationDate(),
+                    reservation.getReservationTime());
+            if (activeSlots.putIfAbsent(key, id) != null) {
+                throw new DataIntegrityViolationException("Duplicate entry for key 'uk_reservations_active_slot'");
+            }
+            reservation.setId(id);
+            return reservation;
+        });
+        when(reservationRepository.existsByStoreIdAndReservationDateAndReservationTimeAndStatusIn(
+                any(), any(), any(), anyList()
+        )).thenAnswer(invocation -> activeSlots.containsKey(new SlotKey(
+                invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2))));
+
+        Store store = Store.builder().id(STORE_ID).name("store").active(true).build();
+        storeRepository = mock(StoreRepository.class);
+        when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(store));
+
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findById(anyLong())).thenAnswer(invocation ->
+                Optional.of(User.builder().id(invocation.getArgument(0)).name("user").build()));
+    }
+
+    @Test
+    void concurrentBookingsAcrossNodesCreateOneReservationPerSlot() throws Exception {
+        List<ReservationService> nodes = List.of(newNode(), newNode(), newNode());
+        int threads = 12;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        List<Future<ErrorCode>> attempts = new ArrayList<>();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            for (int i = 0; i < threads; i++) {
+                ReservationService node = nodes.get(i % nodes.size());
+                long userId = i + 1;
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        node.createReservation(userId, createRequest());
+                        return null;
+                    } catch (CustomException e) {
+                        return e.getErrorCode();
+                    }
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            for (Future<ErrorCode> attempt : attempts) {
+                ErrorCode errorCode = attempt.get(5, TimeUnit.SECONDS);
+                if (errorCode == null) {
+                    created++;
+                } else {
+                    assertThat(errorCode).isEqualTo(ErrorCode.RESERVATION_ALREADY_EXISTS);
+                }
+            }
+            assertThat(created).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(activeSlots).hasSize(1);
+    }
+
+    @Test
+    void staleIndexBitFallsBackToDatabaseKey() {
+        ReservationAvailabilityIndex staleIndex = newIndex();
+        ReservationService node = newNode(staleIndex);
+
+        assertThat(staleIndex.tryOccupy(STORE_ID, DATE, HOT_SLOT)).isTrue();
+
+        ReservationDto.CreateResponse response = node.createReservation(1L, createRequest());
+
+        assertThat(response.getStatus()).isEqualTo(ReservationStatus.PENDING);
+        assertThatThrownBy(() -> node.createReservation(2L, createRequest()))
+                .isInstanceOfSatisfying(CustomException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_ALREADY_EXISTS));
+    }
+
+    private ReservationService newNode() {
+        return newNode(newIndex());
+    }
+
+    private ReservationService newNode(ReservationAvailabilityIndex availabilityIndex) {
+        return new ReservationService(
+                reservationRepository,
+                storeRepository,
+                userRepository,
+                mock(PartnerRepository.class),
+                reservationConfig,
+                mock(NotificationService.class),
+                availabilityIndex,
+                new ReservationHoldRegistry(availabilityIndex, 120, 3),
+                mock(ReservationDailyStatsRecorder.class),
+                mock(ApplicationEventPublisher.class)
+        );
+    }
+
+    private ReservationAvailabilityIndex newIndex() {
+        ReservationAvailabilityIndex availabilityIndex =
+                new ReservationAvailabilityIndex(reservationRepository, reservationConfig);
+        availabilityIndex.rebuild();
+        return availabilityIndex;
+    }
+
+    private ReservationDto.CreateRequest createRequest() {
+        return ReservationDto.CreateRequest.builder()
+                .storeId(STORE_ID)
+                .reservationDate(DATE)
+                .reservationTime(HOT_SLOT)
+                .partySize(2)
+                .build();
+    }
+
+    private record SlotKey(Long storeId, LocalDate date, LocalTime time) {
+    }
+}
@@ -0,0 +1,161 @@
+package faithcoderlab.tablebookingservice.domain.review.service;
+
+import faithcoderlab.tablebookingservice.domain.reservation.entity.Reservation;
+import faithcoderlab.tablebookingservice.domain.reservation.entity.ReservationStatus;
+import faithcoderlab.tablebookingservice.domain.reservation.repository.ReservationRepository;
+import faithcoderlab.tablebookingservice.domain.review.dto.ReviewDto;
+import faithcoderlab.tablebookingservice.domain.review.entity.Review;
+import faithcoderlab.tablebookingservice.domain.review.repository.ReviewRepository;
+import faithcoderlab.tablebookingservice.domain.store.entity.Store;
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreRepository;
+import faithcoderlab.tablebookingservice.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReviewServiceTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final long INSERT_MILLIS = 20;
+
+    private final StoreRowLock storeRowLock = new StoreRowLock();
+    private final AtomicLong reviewIds = new AtomicLong();
+    private final AtomicLong ratingSum = new AtomicLong();
+
+    private ReviewService reviewService;
+
+    @BeforeEach
+    void setUp() {
+        Store store = Store.builder().id(STORE_ID).name("store").build();
+
+        ReservationRepository reservationRepository = mock(ReservationRepository.class);
+        when(reservationRepository.findById(anyLong())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            return Optional.of(Reservation.builder()
+                    .id(id)
+                    .user(User.builder().id(id).name("user-" + id).build())
+                    .store(store)
+                    .status(ReservationStatus.COMPLETED)
+                    .build());
+        });
+
+        ReviewRepository reviewRepository = mock(ReviewRepository.class);
+        when(reviewRepository.findByReservationId(anyLong())).thenReturn(Optional.empty());
+        when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> {
+            storeRowLock.lockShared();
+            Thread.sleep(INSERT_MILLIS);
+            Review review = invocation.getArgument(0);
+            review.setId(reviewIds.incrementAndGet());
+            return review;
+        });
+
+        StoreRepository storeRepository = mock(StoreRepository.class);
+        when(storeRepository.adjustRating(anyLong(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            storeRowLock.lockExclusive();
+            ratingSum.addAndGet(invocation.<Long>getArgument(1));
+            return 1;
+        });
+
+        reviewService = new ReviewService(reviewRepository, reservationRepository, storeRepository, event -> {
+        });
+    }
+
+    @Test
+    void concurrentReviewsForOneStoreDoNotDeadlock() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<ReviewDto.Response>> attempts = new ArrayList<>();
+            for (long userId = 1; userId <= threads; userId++) {
+                long reviewer = userId;
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return reviewService.createReview(reviewer, ReviewDto.CreateRequest.builder()
+                                .rating(5)
+                                .content("good")
+                                .build());
+                    } finally {
+                        storeRowLock.releaseAll();
+                    }
+                }));
+            }
+            start.countDown();
+
+            for (Future<ReviewDto.Response> attempt : attempts) {
+                assertThat(attempt.get(10, TimeUnit.SECONDS).getRating()).isEqualTo(5);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ratingSum.get()).isEqualTo(5L * threads);
+    }
+
+    /**
+     * 매장 행의 InnoDB 행 잠금 모사 (트랜잭션이 끝날 때까지 유지)
+     * 리뷰 INSERT의 외래 키 검사는 공유 잠금, 평점 갱신은 배타 잠금을 요구하며
+     * 대기가 길어지면 교착 상태로 보고 실패
+     */
+    private static class StoreRowLock {
+
+        private static final long TIMEOUT_MILLIS = 2_000;
+
+        private final Set<Thread> sharedHolders = new HashSet<>();
+        private Thread exclusiveHolder;
+
+        synchronized void lockShared() throws InterruptedException {
+            Thread current = Thread.currentThread();
+            awaitUntil(() -> exclusiveHolder == null || exclusiveHolder == current);
+            sharedHolders.add(current);
+        }
+
+        synchronized void lockExclusive() throws InterruptedException {
+            Thread current = Thread.currentThread();
+            awaitUntil(() -> (exclusiveHolder == null || exclusiveHolder == current)
+                    && sharedHolders.stream().allMatch(holder -> holder == current));
+            exclusiveHolder = current;
+        }
+
+        synchronized void releaseAll() {
+            Thread current = Thread.currentThread();
+            sharedHolders.remove(current);
+            if (exclusiveHolder == current) {
+                exclusiveHolder = null;
+            }
+            notifyAll();
+        }
+
+        private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (!condition.getAsBoolean()) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new CannotAcquireLockException("Deadlock found when trying to get lock");
+                }
+                wait(remaining);
+            }
+        }
+    }
+}
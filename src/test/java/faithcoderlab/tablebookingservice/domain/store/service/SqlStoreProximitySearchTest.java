@@ -0,0 +1,134 @@
+package faithcoderlab.tablebookingservice.domain.store.service;
+
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreDistanceView;
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SqlStoreProximitySearchTest {
+
+    private static final double MAX_RADIUS_KM = 80;
+
+    private final List<Location> locations = new ArrayList<>();
+
+    private StoreRepository storeRepository;
+    private SqlStoreProximitySearch proximitySearch;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        for (long storeId = 1; storeId <= 2_000; storeId++) {
+            double latitude = 33.0 + random.nextDouble() * 5.5;
+            double longitude = 124.5 + random.nextDouble() * 7.0;
+            locations.add(new Location(storeId, latitude, longitude));
+        }
+
+        storeRepository = mock(StoreRepository.class);
+        when(storeRepository.findNearestInBoundingBox(
+                anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt()
+        )).thenAnswer(invocation -> boundingBoxQuery(
+                invocation.getArgument(0), invocation.getArgument(1),
+                invocation.getArgument(2), invocation.getArgument(3),
+                invocation.getArgument(4), invocation.getArgument(5),
+                invocation.getArgument(6), invocation.getArgument(7)
+        ));
+
+        proximitySearch = new SqlStoreProximitySearch(storeRepository, 5, MAX_RADIUS_KM, 100);
+    }
+
+    @Test
+    void boundingBoxKeepsEveryStoreWithinRadius() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            double latitude = 33.0 + random.nextDouble() * 5.5;
+            double longitude = 124.5 + random.nextDouble() * 7.0;
+
+            List<Long> actual = proximitySearch.nearest(latitude, longitude, 100, 30.0).stream()
+                    .map(StoreProximitySearch.Neighbor::storeId)
+                    .toList();
+
+            assertThat(actual).isEqualTo(bruteForce(latitude, longitude, 100, 30.0));
+        }
+    }
+
+    @Test
+    void expandingSearchStopsAtMaxRadius() {
+        double latitude = 0;
+        double longitude = 0;
+
+        List<StoreProximitySearch.Neighbor> neighbors = proximitySearch.nearest(latitude, longitude, 10, null);
+
+        assertThat(neighbors).isEmpty();
+        verify(storeRepository, atMost(5)).findNearestInBoundingBox(
+                anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt()
+        );
+    }
+
+    @Test
+    void limitIsCappedAtMaxResults() {
+        List<StoreProximitySearch.Neighbor> neighbors =
+                proximitySearch.nearest(37.5665, 126.9780, Integer.MAX_VALUE, null);
+
+        assertThat(neighbors).hasSize(100);
+        assertThat(neighbors.stream().map(StoreProximitySearch.Neighbor::storeId).toList())
+                .isEqualTo(bruteForce(37.5665, 126.9780, 100, MAX_RADIUS_KM));
+    }
+
+    /**
+     * findNearestInBoundingBox 네이티브 쿼리와 같은 조건으로 후보를 거르고 정렬
+     */
+    private List<StoreDistanceView> boundingBoxQuery(
+            double latitude, double longitude, double minLat, double maxLat,
+            double minLng, double maxLng, double radiusKm, int limit
+    ) {
+        return locations.stream()
+                .filter(location -> location.latitude() >= minLat && location.latitude() <= maxLat)
+                .filter(location -> location.longitude() >= minLng && location.longitude() <= maxLng)
+                .map(location -> (StoreDistanceView) new Distance(location.storeId(), distance(latitude, longitude, location)))
+                .filter(view -> view.getDistanceKm() <= radiusKm)
+                .sorted(Comparator.comparingDouble(StoreDistanceView::getDistanceKm))
+                .limit(limit)
+                .toList();
+    }
+
+    private List<Long> bruteForce(double latitude, double longitude, int limit, double radiusKm) {
+        return locations.stream()
+                .filter(location -> distance(latitude, longitude, location) <= radiusKm)
+                .sorted(Comparator.comparingDouble(location -> distance(latitude, longitude, location)))
+                .limit(limit)
+                .map(Location::storeId)
+                .toList();
+    }
+
+    private double distance(double latitude, double longitude, Location location) {
+        return StoreGeoIndex.distanceKm(latitude, longitude, location.latitude(), location.longitude());
+    }
+
+    private record Location(Long storeId, double latitude, double longitude) {
+    }
+
+    private record Distance(Long storeId, Double distanceKm) implements StoreDistanceView {
+        @Override
+        public Long getStoreId() {
+            return storeId;
+        }
+
+        @Override
+        public Double getDistanceKm() {
+            return distanceKm;
+        }
+    }
+}
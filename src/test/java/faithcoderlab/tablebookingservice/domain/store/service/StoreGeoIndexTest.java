@@ -0,0 +1,96 @@
+package faithcoderlab.tablebookingservice.domain.store.service;
+
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreLocationView;
+import faithcoderlab.tablebookingservice.domain.store.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StoreGeoIndexTest {
+
+    private final List<StoreLocationView> locations = new ArrayList<>();
+
+    private StoreGeoIndex storeGeoIndex;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        for (long storeId = 1; storeId <= 2_000; storeId++) {
+            double latitude = 33.0 + random.nextDouble() * 5.5;
+            double longitude = 124.5 + random.nextDouble() * 7.0;
+            locations.add(new Location(storeId, latitude, longitude));
+        }
+
+        StoreRepository storeRepository = mock(StoreRepository.class);
+        when(storeRepository.findActiveStoreLocations()).thenReturn(locations);
+
+        storeGeoIndex = new StoreGeoIndex(storeRepository);
+        storeGeoIndex.rebuild();
+    }
+
+    @Test
+    void nearestMatchesBruteForce() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            double latitude = 33.0 + random.nextDouble() * 5.5;
+            double longitude = 124.5 + random.nextDouble() * 7.0;
+
+            List<Long> expected = bruteForce(latitude, longitude, 10, Double.POSITIVE_INFINITY);
+            List<Long> actual = storeGeoIndex.nearest(latitude, longitude, 10, null).stream()
+                    .map(StoreProximitySearch.Neighbor::storeId)
+                    .toList();
+
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void radiusExcludesDistantStores() {
+        double latitude = 37.5665;
+        double longitude = 126.9780;
+
+        List<StoreProximitySearch.Neighbor> neighbors = storeGeoIndex.nearest(latitude, longitude, Integer.MAX_VALUE, 20.0);
+
+        assertThat(neighbors).allMatch(neighbor -> neighbor.distanceKm() <= 20.0);
+        assertThat(neighbors.stream().map(StoreProximitySearch.Neighbor::storeId).toList())
+                .isEqualTo(bruteForce(latitude, longitude, Integer.MAX_VALUE, 20.0));
+    }
+
+    private List<Long> bruteForce(double latitude, double longitude, int limit, double radiusKm) {
+        return locations.stream()
+                .filter(location -> distance(latitude, longitude, location) <= radiusKm)
+                .sorted(Comparator.comparingDouble(location -> distance(latitude, longitude, location)))
+                .limit(limit)
+                .map(StoreLocationView::getStoreId)
+                .toList();
+    }
+
+    private double distance(double latitude, double longitude, StoreLocationView location) {
+        return StoreGeoIndex.distanceKm(latitude, longitude, location.getLatitude(), location.getLongitude());
+    }
+
+    private record Location(Long storeId, Double latitude, Double longitude) implements StoreLocationView {
+        @Override
+        public Long getStoreId() {
+            return storeId;
+        }
+
+        @Override
+        public Double getLatitude() {
+            return latitude;
+        }
+
+        @Override
+        public Double getLongitude() {
+            return longitude;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package faithcoderlab.tablebookingservice.global.config;
+
+import faithcoderlab.tablebookingservice.global.security.PrincipalType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtClaimsCacheTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Test
+    void expiredClaimsAreNotReturned() {
+        JwtClaimsCache cache = new JwtClaimsCache(10);
+        JwtClaims claims = claims(NOW + 1_000);
+        cache.put("token", claims, NOW);
+
+        assertThat(cache.get("token", NOW)).isEqualTo(claims);
+        assertThat(cache.get("token", NOW + 1_000)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void claimsWithoutExpirationAreNotCached() {
+        JwtClaimsCache cache = new JwtClaimsCache(10);
+        cache.put("token", claims(null), NOW);
+
+        assertThat(cache.get("token", NOW)).isNull();
+    }
+
+    @Test
+    void evictionKeepsSizeWithinMaxEntries() {
+        JwtClaimsCache cache = new JwtClaimsCache(100);
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("token-" + i, claims(NOW + 60_000), NOW);
+            assertThat(cache.size()).isLessThanOrEqualTo(100);
+        }
+
+        assertThat(cache.get("token-999", NOW)).isNotNull();
+    }
+
+    @Test
+    void evictionDropsExpiredEntriesFirst() {
+        JwtClaimsCache cache = new JwtClaimsCache(10);
+        for (int i = 0; i < 5; i++) {
+            cache.put("live-" + i, claims(NOW + 60_000), NOW);
+        }
+        for (int i = 0; i < 5; i++) {
+            cache.put("expiring-" + i, claims(NOW + 1_000), NOW);
+        }
+
+        cache.put("new", claims(NOW + 60_000), NOW + 2_000);
+
+        assertThat(cache.size()).isEqualTo(6);
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.get("live-" + i, NOW + 2_000)).isNotNull();
+        }
+    }
+
+    @Test
+    void zeroMaxEntriesDisablesCache() {
+        JwtClaimsCache cache = new JwtClaimsCache(0);
+        cache.put("token", claims(NOW + 60_000), NOW);
+
+        assertThat(cache.get("token", NOW)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void concurrentPutsStayNearMaxEntries() throws Exception {
+        JwtClaimsCache cache = new JwtClaimsCache(1_000);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 10_000; i++) {
+                        String tokenHash = thread + "-" + i;
+                        cache.put(tokenHash, claims(NOW + 60_000), NOW);
+                        cache.get(tokenHash, NOW);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> worker : workers) {
+                worker.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(1_000 + 100 + threads);
+    }
+
+    private JwtClaims claims(Long expiresAt) {
+        return new JwtClaims(1L, PrincipalType.USER, "user@example.com", "ROLE_USER",
+                new Date(NOW), expiresAt == null ? null : new Date(expiresAt));
+    }
+}